@@ -16,13 +16,34 @@ package com.alburivan.slickform;
 */
 
 import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.os.Looper;
+import android.support.v4.content.ContextCompat;
+import android.text.Editable;
 import android.text.InputType;
+import android.text.TextWatcher;
 import android.util.AttributeSet;
+import android.util.TypedValue;
 import android.widget.EditText;
 import android.widget.ImageView;
 import android.widget.RelativeLayout;
 
+import com.alburivan.slickform.cache.IconCache;
+import com.alburivan.slickform.input.DomainTrie;
+import com.alburivan.slickform.input.EmailAutocomplete;
+import com.alburivan.slickform.input.InputMask;
+import com.alburivan.slickform.input.MaskFormatter;
+import com.alburivan.slickform.input.UnmaskedText;
 import com.alburivan.slickform.interfaces.IOnCustomValidation;
+import com.alburivan.slickform.interfaces.IValidationRule;
+import com.alburivan.slickform.validators.DateTimeParser;
+import com.alburivan.slickform.validators.NumberParser;
+import com.alburivan.slickform.validators.PasswordStrengthEstimator;
+import com.alburivan.slickform.validators.RuleChain;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static com.alburivan.slickform.FieldsType.CUSTOM;
 import static com.alburivan.slickform.FieldsType.PASSWORD;
@@ -41,7 +62,16 @@ public class FormField extends RelativeLayout {
     /** Custom tag used by the PairingCodeText to output logging information. */
     protected final String DEBUG_TAG = SlickForm.class.getCanonicalName();
 
+    /** Runs the strength estimates of long passwords, one at a time */
+    private static Executor strengthExecutor;
+
+    /** Meter colors, from the weakest to the strongest score */
+    private static final int[] STRENGTH_COLORS = {
+            R.color.colorRed, R.color.colorOrange, R.color.colorYellow, R.color.colorLightGreen, R.color.colorGreen
+    };
+
     private IOnCustomValidation callback = null;
+    private RuleChain ruleChain = null;
 
 
     private RelativeLayout mRootView;
@@ -49,6 +79,39 @@ public class FormField extends RelativeLayout {
     private EditText mFieldInput;
     private FieldsType formFieldType;
     private String stepLabel = "Next";
+    private volatile Object stepResult = null;
+    private boolean isFlatLayout = false;
+    private LayoutStats layoutStats;
+    private int iconResId;
+    private CharSequence hint;
+    private boolean isPasswordField = false;
+    private double minValue = Double.NEGATIVE_INFINITY;
+    private double maxValue = Double.POSITIVE_INFINITY;
+    private DateTimeParser dateTimeParser;
+    private long minDateTime = Long.MIN_VALUE + 1;
+    private long maxDateTime = Long.MAX_VALUE;
+
+    // parsed values are kept until the text changes, so they are read only once
+    private int textVersion = 0;
+    private int parsedDoubleVersion = -1;
+    private double parsedDouble;
+    private int parsedLongVersion = -1;
+    private long parsedLong;
+    private boolean isParsedLongValid;
+    private int parsedDateTimeVersion = -1;
+    private long parsedDateTime;
+
+    private InputMask inputMask;
+    private MaskFormatter maskFormatter;
+    private UnmaskedText rawText;
+    private volatile TextSnapshot textSnapshot;
+    private boolean isDomainAutocompleteEnabled = false;
+    private DomainTrie autocompleteDomains;
+    private boolean isTypoCorrectionEnabled;
+    private PasswordStrengthEstimator strengthEstimator;
+    private Paint strengthPaint;
+    private int strengthScore = -1;
+    private int strengthRequest = 0;
 
 
     /**
@@ -98,7 +161,8 @@ public class FormField extends RelativeLayout {
     }
 
     /**
-     * Method that initializes this custom view's default values and sets listeners
+     * Method that initializes this custom view's default values. The icon and the input are not
+     * inflated yet, see {@link #ensureInflated()}.
      *
      * @param context The context used to create this view
      * @param type The field's type
@@ -106,9 +170,34 @@ public class FormField extends RelativeLayout {
      * @param hint The user hint for the EditText
      */
     private void initAttrs(Context context, FieldsType type, int resId, String hint) {
+        this.iconResId                   = resId;
+        this.hint                        = hint;
+        this.formFieldType               = type;
+    }
+
+    /**
+     * Inflates this field's icon and input if they were not inflated yet, applying every value
+     * set so far. SlickForm calls it ahead of time while the main thread is idle, so the field is
+     * ready by the time it is shown, any getter also calls it as a fallback.
+     *
+     * <p>
+     *     Must be called from the main thread, the form inflates every field before handing them
+     *     to background work.
+     * </p>
+     *
+     * @throws IllegalStateException If the field is not inflated yet and this is not the main
+     *                               thread
+     */
+    public void ensureInflated() {
+        if (isInflated())
+            return;
+
+        if (!isMainThread())
+            throw new IllegalStateException("A FormField can only be inflated on the main thread");
+
         try {
 
-            this.mRootView                   = (RelativeLayout) inflate(context, R.layout.library_form_field_layout, this);
+            this.mRootView                   = (RelativeLayout) inflate(getContext(), R.layout.library_form_field_layout, this);
             this.mIconView                   = (ImageView) mRootView.findViewById(R.id.slick_form_text_icon);
             this.mFieldInput                 = (EditText) mRootView.findViewById(R.id.slick_form_text_input);
 
@@ -117,16 +206,173 @@ public class FormField extends RelativeLayout {
 
             params.addRule(RelativeLayout.RIGHT_OF, mIconView.getId());
 
-            this.mIconView.setImageResource(resId);
+            this.mIconView.setImageDrawable(IconCache.get(getContext(), iconResId));
             this.mFieldInput.setLayoutParams(params);
             this.mFieldInput.setHint(hint);
-            this.formFieldType = type;
+            this.mFieldInput.addTextChangedListener(new TextWatcher() {
+                @Override
+                public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+                @Override
+                public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+                @Override
+                public void afterTextChanged(Editable s) {
+                    textVersion++;
+                    updateStrength(s);
+                }
+            });
+
+            if (isPasswordField)
+                applyPasswordInputType();
+
+            if (inputMask != null)
+                maskFormatter = new MaskFormatter(mFieldInput, inputMask).attach();
+
+            if (isDomainAutocompleteEnabled)
+                new EmailAutocomplete(mFieldInput, autocompleteDomains, isTypoCorrectionEnabled).attach();
         }
         catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * @return {@code true} if this field's icon and input are already inflated
+     */
+    public boolean isInflated() {
+        return mFieldInput != null;
+    }
+
+    @Override
+    protected void onFinishInflate() {
+        super.onFinishInflate();
+        ensureInflated();
+    }
+
+
+    /**
+     * When the flat layout is enabled the icon and the input are measured once and placed side
+     * by side, instead of going through the two measure passes of the RelativeLayout.
+     */
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        if (layoutStats != null)
+            layoutStats.onMeasure();
+
+        if (!isFlatLayout) {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+            return;
+        }
+
+        int horizontalPadding = getPaddingLeft() + getPaddingRight();
+        int verticalPadding = getPaddingTop() + getPaddingBottom();
+
+        measureChild(mIconView, widthMeasureSpec, heightMeasureSpec);
+
+        int inputWidth = Math.max(0, MeasureSpec.getSize(widthMeasureSpec) - horizontalPadding - mIconView.getMeasuredWidth());
+        int inputHeightSpec = getChildMeasureSpec(heightMeasureSpec, verticalPadding, mFieldInput.getLayoutParams().height);
+        mFieldInput.measure(MeasureSpec.makeMeasureSpec(inputWidth, MeasureSpec.EXACTLY), inputHeightSpec);
+
+        int width = horizontalPadding + mIconView.getMeasuredWidth() + mFieldInput.getMeasuredWidth();
+        int height = verticalPadding + Math.max(mIconView.getMeasuredHeight(), mFieldInput.getMeasuredHeight());
+
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        if (layoutStats != null)
+            layoutStats.onLayout();
+
+        if (!isFlatLayout) {
+            super.onLayout(changed, l, t, r, b);
+            return;
+        }
+
+        int left = getPaddingLeft();
+        int top = getPaddingTop();
+
+        mIconView.layout(left, top, left + mIconView.getMeasuredWidth(), top + mIconView.getMeasuredHeight());
+
+        left += mIconView.getMeasuredWidth();
+        mFieldInput.layout(left, top, left + mFieldInput.getMeasuredWidth(), top + mFieldInput.getMeasuredHeight());
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        super.dispatchDraw(canvas);
+
+        if (strengthEstimator == null || strengthScore < 0 || !isInflated())
+            return;
+
+        float height = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 3, getResources().getDisplayMetrics());
+        float left = mFieldInput.getLeft() + mFieldInput.getPaddingLeft();
+        float right = mFieldInput.getRight() - mFieldInput.getPaddingRight();
+        float width = (right - left) * (strengthScore + 1) / STRENGTH_COLORS.length;
+
+        strengthPaint.setColor(ContextCompat.getColor(getContext(), STRENGTH_COLORS[strengthScore]));
+        canvas.drawRect(left, getHeight() - getPaddingBottom() - height, left + width, getHeight() - getPaddingBottom(), strengthPaint);
+    }
+
+    /**
+     * Estimates the strength of the text, in the background if it is long. Results of stale
+     * texts are dropped.
+     */
+    private void updateStrength(CharSequence text) {
+        if (strengthEstimator == null)
+            return;
+
+        final int request = ++strengthRequest;
+
+        if (text.length() < PasswordStrengthEstimator.LONG_INPUT_LENGTH) {
+            setStrengthScore(strengthEstimator.estimate(text));
+            return;
+        }
+
+        final PasswordStrengthEstimator estimator = strengthEstimator;
+        final String snapshot = text.toString();
+
+        getStrengthExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                final int score = estimator.estimate(snapshot);
+
+                post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (request == strengthRequest && estimator == strengthEstimator)
+                            setStrengthScore(score);
+                    }
+                });
+            }
+        });
+    }
+
+    private void setStrengthScore(int score) {
+        if (strengthScore != score) {
+            this.strengthScore = score;
+            invalidate();
+        }
+    }
+
+    private static synchronized Executor getStrengthExecutor() {
+        if (strengthExecutor == null)
+            strengthExecutor = Executors.newSingleThreadExecutor();
+
+        return strengthExecutor;
+    }
+
+    void setFlatLayout(boolean state) {
+        if (isFlatLayout != state) {
+            this.isFlatLayout = state;
+            requestLayout();
+        }
+    }
+
+    void setLayoutStats(LayoutStats layoutStats) {
+        this.layoutStats = layoutStats;
+    }
 
     /**
      * Add this form field's type so it can get validated correctly according to the type.
@@ -157,7 +403,11 @@ public class FormField extends RelativeLayout {
      * @return This FormField instance
      */
     public FormField withHint(String hint) {
-        this.mFieldInput.setHint(hint);
+        this.hint = hint;
+
+        if (isInflated())
+            this.mFieldInput.setHint(hint);
+
         return this;
     }
 
@@ -168,7 +418,11 @@ public class FormField extends RelativeLayout {
      * @return This FormField instance
      */
     public FormField withIcon(int resId) {
-        this.mIconView.setImageResource(resId);
+        this.iconResId = resId;
+
+        if (isInflated())
+            this.mIconView.setImageDrawable(IconCache.get(getContext(), resId));
+
         return this;
     }
 
@@ -197,6 +451,171 @@ public class FormField extends RelativeLayout {
         return this;
     }
 
+    /**
+     * Adds a rule to this field's chain, checked after the field's type. Unlike
+     * {@link #withCustomValidation}, rules don't replace the type nor each other, they all have to
+     * pass. See {@link com.alburivan.slickform.validators.Rules} for the built-in ones.
+     *
+     * @param rule The rule to add
+     * @return This FormField instance
+     */
+    public FormField withRule(IValidationRule rule) {
+        if (ruleChain == null)
+            ruleChain = new RuleChain();
+
+        ruleChain.add(rule);
+        return this;
+    }
+
+    /**
+     * Formats the input while it is typed, such as {@code "(###) ###-####"} for a phone number,
+     * see {@link InputMask} for the mask's characters.
+     *
+     * @param mask The mask
+     * @return This FormField instance
+     */
+    public FormField withMask(String mask) {
+        return withMask(new InputMask(mask));
+    }
+
+    /**
+     * Formats the input while it is typed, editing its text in place. The rules and the type's
+     * checks see only the characters the user typed, through {@link #getRawText()}. Numbers and
+     * dates are still read as shown, so the literals they need, like the decimal point of
+     * {@code "###.##"} or the separators of a date, must be in the mask. The mask of a date
+     * pattern is built by {@link InputMask#forDatePattern(String)}.
+     *
+     * @param mask The mask, such as {@link InputMask#PHONE}, or {@code null} to stop formatting
+     * @return This FormField instance
+     */
+    public FormField withMask(InputMask mask) {
+        this.inputMask = mask;
+        this.rawText = null;
+
+        if (isInflated()) {
+            if (maskFormatter != null)
+                maskFormatter.detach();
+
+            maskFormatter = mask != null ? new MaskFormatter(mFieldInput, mask).attach() : null;
+        }
+
+        return this;
+    }
+
+    /**
+     * Completes the email's domain inline while it is typed, from the default list of common
+     * providers, and points out likely typos in it. The default list can be replaced at runtime
+     * with {@link DomainTrie#setDefault(DomainTrie)}.
+     *
+     * @return This FormField instance
+     */
+    public FormField withDomainAutocomplete() {
+        return withDomainAutocomplete(null, true);
+    }
+
+    /**
+     * Completes the email's domain inline while it is typed, ranked by how often each domain is
+     * used.
+     *
+     * @param domains The domains offered, or {@code null} to use the default list
+     * @param isTypoCorrectionEnabled {@code true} to point out likely typos in the domain once
+     *                                the input loses focus
+     * @return This FormField instance
+     */
+    public FormField withDomainAutocomplete(DomainTrie domains, boolean isTypoCorrectionEnabled) {
+        if (isDomainAutocompleteEnabled)
+            return this;
+
+        this.isDomainAutocompleteEnabled = true;
+        this.autocompleteDomains = domains;
+        this.isTypoCorrectionEnabled = isTypoCorrectionEnabled;
+
+        if (isInflated())
+            new EmailAutocomplete(mFieldInput, domains, isTypoCorrectionEnabled).attach();
+
+        return this;
+    }
+
+    /**
+     * Shows a strength meter under the input that follows the password as it is typed, using the
+     * built-in dictionary of common passwords.
+     *
+     * @return This FormField instance
+     */
+    public FormField withStrengthMeter() {
+        return withStrengthMeter(new PasswordStrengthEstimator());
+    }
+
+    /**
+     * Shows a strength meter under the input that follows the password as it is typed. Short
+     * passwords are estimated right away, long ones in the background.
+     *
+     * @param estimator The estimator used by this field only, or {@code null} to hide the meter
+     * @return This FormField instance
+     */
+    public FormField withStrengthMeter(PasswordStrengthEstimator estimator) {
+        this.strengthEstimator = estimator;
+        this.strengthScore = -1;
+
+        if (estimator != null && strengthPaint == null)
+            strengthPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+        if (estimator != null && isInflated())
+            updateStrength(mFieldInput.getText());
+
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Constrains the value of a {@code FieldsType.NUMERIC} field, both ends included.
+     *
+     * @param min The smallest value accepted
+     * @param max The largest value accepted
+     * @return This FormField instance
+     */
+    public FormField withRange(double min, double max) {
+        this.minValue = min;
+        this.maxValue = max;
+        return this;
+    }
+
+    /**
+     * Sets the pattern a {@code FieldsType.DATE_TIME} field must follow, such as
+     * {@code "dd/MM/yyyy"}. Default is {@code "yyyy-MM-dd"}, see {@link DateTimeParser} for the
+     * supported letters.
+     *
+     * @param pattern The date pattern
+     * @return This FormField instance
+     */
+    public FormField withDatePattern(String pattern) {
+        this.dateTimeParser = new DateTimeParser(pattern);
+        this.parsedDateTimeVersion = -1;
+        return this;
+    }
+
+    /**
+     * Constrains the value of a {@code FieldsType.DATE_TIME} field, both ends included. The
+     * dates are written in this field's pattern, so {@link #withDatePattern(String)} must be
+     * called first if a custom pattern is used.
+     *
+     * @param min The earliest date accepted
+     * @param max The latest date accepted
+     * @return This FormField instance
+     * @throws IllegalArgumentException If a date does not follow the pattern
+     */
+    public FormField withDateRange(String min, String max) {
+        DateTimeParser parser = getDateTimeParser();
+
+        this.minDateTime = parser.parse(min);
+        this.maxDateTime = parser.parse(max);
+
+        if (minDateTime == DateTimeParser.INVALID || maxDateTime == DateTimeParser.INVALID)
+            throw new IllegalArgumentException("The date range must follow the pattern " + parser.getPattern());
+
+        return this;
+    }
+
     /**
      * Converts this FormField's EditText into a password field
      *
@@ -204,12 +623,19 @@ public class FormField extends RelativeLayout {
      * @return This FormField instance
      */
     public FormField setPasswordFieldEnabled(boolean state) {
-        if(state)
+        this.isPasswordField = state;
+
+        if (isInflated())
+            applyPasswordInputType();
+
+        return this;
+    }
+
+    private void applyPasswordInputType() {
+        if(isPasswordField)
             this.mFieldInput.setInputType(InputType.TYPE_CLASS_TEXT | InputType.TYPE_TEXT_VARIATION_PASSWORD);
         else
             this.mFieldInput.setInputType(InputType.TYPE_CLASS_TEXT);
-
-        return this;
     }
 
 
@@ -231,6 +657,7 @@ public class FormField extends RelativeLayout {
     }
 
     public ImageView getIconField() {
+        ensureInflated();
         return mIconView;
     }
 
@@ -239,11 +666,166 @@ public class FormField extends RelativeLayout {
     }
 
     public EditText getInputField() {
+        ensureInflated();
         return mFieldInput;
     }
 
+    /**
+     * @return The text typed in this field, or an empty string if it was never shown. Off the
+     *         main thread, it is a copy taken when the field was last submitted or validated with
+     *         {@link SlickForm#validateAll}.
+     */
     public String getInputFieldText() {
-        return mFieldInput.getText().toString();
+        return getInputFieldChars().toString();
+    }
+
+    /**
+     * @return The characters the user typed in this field without the literals of its mask, as
+     *         a live view of the input's text, or the text itself if there is no mask. Off the
+     *         main thread, it is a copy taken when the field was last submitted or validated with
+     *         {@link SlickForm#validateAll}.
+     */
+    public CharSequence getRawText() {
+        if (!isMainThread()) {
+            TextSnapshot snapshot = textSnapshot;
+            return snapshot != null ? snapshot.rawText : "";
+        }
+
+        CharSequence text = getInputFieldChars();
+
+        if (inputMask == null)
+            return text;
+
+        // the view is only rebuilt when the input gets a new Editable, as setText does
+        if (rawText == null || rawText.getText() != text)
+            rawText = new UnmaskedText(text, inputMask);
+
+        return rawText;
+    }
+
+    /**
+     * @return The number typed in this field, or {@link Double#NaN} if it is not a number
+     */
+    public double getDouble() {
+        // the caches below belong to the main thread
+        if (!isMainThread())
+            return NumberParser.parseDouble(getInputFieldChars());
+
+        if (parsedDoubleVersion != textVersion) {
+            parsedDouble = NumberParser.parseDouble(getInputFieldChars());
+            parsedDoubleVersion = textVersion;
+        }
+
+        return parsedDouble;
+    }
+
+    /**
+     * @return The integer typed in this field, or {@code 0} if it is not an integer
+     */
+    public long getLong() {
+        return getLong(0);
+    }
+
+    /**
+     * @param defaultValue The value returned if the text is not an integer
+     * @return The integer typed in this field, or {@code defaultValue}
+     */
+    public long getLong(long defaultValue) {
+        if (!isMainThread())
+            return NumberParser.parseLong(getInputFieldChars(), defaultValue);
+
+        if (parsedLongVersion != textVersion) {
+            CharSequence text = getInputFieldChars();
+
+            parsedLong = NumberParser.parseLong(text, Long.MIN_VALUE);
+            isParsedLongValid = parsedLong != Long.MIN_VALUE || NumberParser.parseLong(text, 0) == Long.MIN_VALUE;
+            parsedLongVersion = textVersion;
+        }
+
+        return isParsedLongValid ? parsedLong : defaultValue;
+    }
+
+    /**
+     * @return The date typed in this field, as returned by {@link DateTimeParser#parse(CharSequence)},
+     *         or {@link DateTimeParser#INVALID} if it does not follow the field's pattern
+     */
+    public long getDateTime() {
+        if (!isMainThread())
+            return getDateTimeParser().parse(getInputFieldChars());
+
+        if (parsedDateTimeVersion != textVersion) {
+            parsedDateTime = getDateTimeParser().parse(getInputFieldChars());
+            parsedDateTimeVersion = textVersion;
+        }
+
+        return parsedDateTime;
+    }
+
+    /**
+     * @return A number that changes every time the text of this field changes, used to tell
+     *         whether values computed from the text are still current
+     */
+    public int getTextVersion() {
+        return textVersion;
+    }
+
+    /**
+     * @return The strength of the password typed, from
+     *         {@link PasswordStrengthEstimator#SCORE_TOO_GUESSABLE} to
+     *         {@link PasswordStrengthEstimator#SCORE_VERY_UNGUESSABLE}, or {@code -1} if there is
+     *         no strength meter
+     */
+    public int getStrengthScore() {
+        return strengthEstimator == null ? -1 : strengthScore;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public long getMinDateTime() {
+        return minDateTime;
+    }
+
+    public long getMaxDateTime() {
+        return maxDateTime;
+    }
+
+    private DateTimeParser getDateTimeParser() {
+        if (dateTimeParser == null)
+            dateTimeParser = new DateTimeParser(DateTimeParser.DEFAULT_PATTERN);
+
+        return dateTimeParser;
+    }
+
+    /**
+     * Copies the text as it is now, so the validations running off the main thread read that copy
+     * instead of the Editable the user keeps editing. Must be called from the main thread.
+     */
+    void takeTextSnapshot() {
+        getDateTimeParser();
+        textSnapshot = new TextSnapshot(getInputFieldChars().toString(), getRawText().toString());
+    }
+
+    /**
+     * @return The field's text as is, without copying it into a String, or its snapshot off the
+     *         main thread
+     */
+    private CharSequence getInputFieldChars() {
+        if (!isMainThread()) {
+            TextSnapshot snapshot = textSnapshot;
+            return snapshot != null ? snapshot.text : "";
+        }
+
+        return isInflated() ? mFieldInput.getText() : "";
+    }
+
+    private static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
     }
 
     public void setInputField(EditText mFieldInput) {
@@ -253,4 +835,38 @@ public class FormField extends RelativeLayout {
     public IOnCustomValidation getCallback() {
         return callback;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return The rules added with {@link #withRule(IValidationRule)}, or {@code null} if there
+     *         are none
+     */
+    public RuleChain getRuleChain() {
+        return ruleChain;
+    }
+
+    /**
+     * @return The value returned by {@link com.alburivan.slickform.interfaces.IOnStepProcess}
+     *         for this field, or {@code null} if there was none
+     */
+    public Object getStepResult() {
+        return stepResult;
+    }
+
+    public void setStepResult(Object stepResult) {
+        this.stepResult = stepResult;
+    }
+
+    /**
+     * The text of a field at a given time, read by the validations running off the main thread.
+     */
+    private static final class TextSnapshot {
+
+        final String text;
+        final String rawText;
+
+        TextSnapshot(String text, String rawText) {
+            this.text = text;
+            this.rawText = rawText;
+        }
+    }
+}
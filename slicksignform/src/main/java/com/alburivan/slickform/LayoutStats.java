@@ -0,0 +1,65 @@
+package com.alburivan.slickform;
+
+/**
+ * (っ･_･)っ
+ *  LayoutStats keeps count of the measure and layout passes done by a SlickForm and its
+ *  FormFields, as well as of the frames it has drawn. It is meant to compare the default
+ *  layout against the flat one.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class LayoutStats {
+
+    private int measureCount = 0;
+    private int layoutCount = 0;
+    private int frameCount = 0;
+
+
+    void onMeasure() {
+        measureCount++;
+    }
+
+    void onLayout() {
+        layoutCount++;
+    }
+
+    void onFrame() {
+        frameCount++;
+    }
+
+    /** Starts counting again from zero */
+    public void reset() {
+        measureCount = 0;
+        layoutCount = 0;
+        frameCount = 0;
+    }
+
+    public int getMeasureCount() {
+        return measureCount;
+    }
+
+    public int getLayoutCount() {
+        return layoutCount;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /** @return The average number of measure passes for each drawn frame */
+    public float getMeasuresPerFrame() {
+        return frameCount == 0 ? 0 : (float) measureCount / frameCount;
+    }
+
+    /** @return The average number of layout passes for each drawn frame */
+    public float getLayoutsPerFrame() {
+        return frameCount == 0 ? 0 : (float) layoutCount / frameCount;
+    }
+
+    @Override
+    public String toString() {
+        return "LayoutStats{frames=" + frameCount + ", measures=" + measureCount
+                + ", layouts=" + layoutCount + "}";
+    }
+}
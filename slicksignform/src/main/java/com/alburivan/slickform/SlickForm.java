@@ -16,37 +16,57 @@ package com.alburivan.slickform;
 * limitations under the License.
 */
 
-import android.animation.Animator;
-import android.animation.ObjectAnimator;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.Drawable;
 import android.os.AsyncTask;
+import android.os.Build;
+import android.os.Handler;
 import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.support.v4.content.ContextCompat;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.View;
-import android.view.animation.AccelerateDecelerateInterpolator;
-import android.view.animation.AccelerateInterpolator;
-import android.view.animation.AlphaAnimation;
-import android.view.animation.Animation;
-import android.view.animation.AnimationSet;
-import android.view.animation.DecelerateInterpolator;
-import android.view.animation.TranslateAnimation;
+import android.view.ViewGroup;
+import android.view.ViewStub;
 import android.widget.Button;
+import android.widget.ImageView;
 import android.widget.LinearLayout;
-import android.widget.ProgressBar;
 import android.widget.RelativeLayout;
 
-import com.alburivan.slickform.animators.ProgressBarAnimation;
+import com.alburivan.slickform.animators.FrameTicker;
+import com.alburivan.slickform.animators.Tween;
+import com.alburivan.slickform.drawables.PathTrimDrawable;
+import com.alburivan.slickform.drawables.ProgressDrawable;
+import com.alburivan.slickform.interfaces.ICrossFieldRule;
 import com.alburivan.slickform.interfaces.IOnCustomValidation;
+import com.alburivan.slickform.interfaces.IOnFormValidation;
 import com.alburivan.slickform.interfaces.IOnProcessChange;
+import com.alburivan.slickform.interfaces.IOnProcessProgressChange;
+import com.alburivan.slickform.interfaces.IOnStepProcess;
+import com.alburivan.slickform.interfaces.IOnWarmUp;
+import com.alburivan.slickform.interfaces.IProgressReporter;
+import com.alburivan.slickform.interfaces.IValidationRule;
 import com.alburivan.slickform.tooltip.SimpleTooltip;
-import com.eftimoff.androipathview.PathView;
+import com.alburivan.slickform.validators.BloomFilter;
+import com.alburivan.slickform.validators.CrossFieldGraph;
+import com.alburivan.slickform.validators.DateTimeParser;
+import com.alburivan.slickform.validators.DomainBlocklist;
+import com.alburivan.slickform.validators.RemoteCheckValidator;
+import com.alburivan.slickform.validators.RuleChain;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.alburivan.slickform.FieldsType.PASSWORD;
 import static com.alburivan.slickform.FieldsType.TEXT;
@@ -79,13 +99,22 @@ public class SlickForm extends LinearLayout {
     |
     */
     private Context mContext;
-    private RelativeLayout slickFieldContainer;
+    private ViewGroup slickFieldContainer;
+    private ViewStub slickEndAnimationStub;
     private RelativeLayout slickEndAnimationContainer;
-    private ProgressBar slickFormProgressBar;
-    private ProgressBar slickEndAnimationProgressBar;
+    private View slickFormProgressBar;
+    private View slickEndAnimationProgressBar;
+    private ProgressDrawable slickFormProgress;
+    private ProgressDrawable slickEndAnimationProgress;
     private Button slickFormSubmitButton;
-    private PathView slickSVGIcon;
+    private ImageView slickSVGIcon;
     private IOnProcessChange mActionListener;
+    private IOnStepProcess mStepListener;
+    private IOnWarmUp mWarmUpListener;
+    private DutyAsyncTask dutyAsyncTask;
+    private WarmUpAsyncTask warmUpAsyncTask;
+    private Tween slideTween;
+    private Runnable remoteCheckResubmit;
     private List<FormField> formFields                = new ArrayList<>();
 
     private boolean isTooltipEnabled                  = true;
@@ -94,7 +123,16 @@ public class SlickForm extends LinearLayout {
     private int currentFieldPosition                  = -1;
     private final int MINIMUM_CHARACTERS_INPUT        = 4;
     private final int MINIMUM_NAME_CHARACTERS_INPUT   = 1;
+    private final int PROGRESS_THROTTLE_MILLIS        = 16;
     private String endTag;
+    private TimingProfile timingProfile               = TimingProfile.FULL;
+    private boolean isWorkFinishedOnResult            = false;
+    private int warmUpStep                            = -1;
+    private boolean isFlatLayout                      = false;
+    private final LayoutStats layoutStats             = new LayoutStats();
+    private final CrossFieldGraph crossFieldGraph     = new CrossFieldGraph();
+    private BloomFilter breachedPasswordFilter;
+    private DomainBlocklist emailDomainBlocklist;
 
 
 
@@ -150,13 +188,16 @@ public class SlickForm extends LinearLayout {
             slickButtonForegroundColor  = typedArray.getColor(R.styleable.SlickForm_slick_buttonFgColor, context.getResources().getColor(R.color.colorWhite));
             slickButtonBackgroundColor  = typedArray.getColor(R.styleable.SlickForm_slick_buttonBgColor, context.getResources().getColor(R.color.colorPurple));
             isTooltipEnabled            = typedArray.getBoolean(R.styleable.SlickForm_slick_tooltipEnabled, true);
+            isFlatLayout                = typedArray.getBoolean(R.styleable.SlickForm_slick_flatLayout, false);
 
-            LinearLayout mRootView      = (LinearLayout) inflate(context, R.layout.library_main_layout, this);
-            slickFieldContainer         = (RelativeLayout) mRootView.findViewById(R.id.slick_form_field_container);
-            slickFormProgressBar        = (ProgressBar) mRootView.findViewById(R.id.slick_form_progress);
-            slickSVGIcon                = (PathView) mRootView.findViewById(R.id.svgIcon);
-            slickEndAnimationContainer  = (RelativeLayout) mRootView.findViewById(R.id.slick_form_end_anim_container);
-            slickEndAnimationProgressBar = (ProgressBar) mRootView.findViewById(R.id.slick_form_end_progress_bar);
+            LinearLayout mRootView      = (LinearLayout) inflate(context, isFlatLayout ?
+                    R.layout.library_main_layout_flat : R.layout.library_main_layout, this);
+            slickFieldContainer         = (ViewGroup) mRootView.findViewById(R.id.slick_form_field_container);
+            slickFormProgressBar        = mRootView.findViewById(R.id.slick_form_progress);
+            slickFormProgress           = new ProgressDrawable(ProgressDrawable.LINEAR,
+                    ContextCompat.getColor(context, R.color.colorPurple), ContextCompat.getColor(context, R.color.colorGreen), 0);
+            setBackground(slickFormProgressBar, slickFormProgress);
+            slickEndAnimationStub       = (ViewStub) mRootView.findViewById(R.id.slick_form_end_anim_stub);
 
 
             slickFormSubmitButton       = (Button) mRootView.findViewById(R.id.slick_form_submit_button);
@@ -231,6 +272,45 @@ public class SlickForm extends LinearLayout {
         return this;
     }
 
+    /**
+     * Adds a rule spanning several fields, such as "confirm password". The rule runs once the
+     * user submits the last of its fields, and again only if one of them changed since.
+     *
+     * @param rule The rule to add
+     * @param fields The fields the rule depends on
+     * @return This instance of SlickForm
+     */
+    public SlickForm withCrossFieldRule(ICrossFieldRule rule, FormField... fields) {
+        this.crossFieldGraph.add(rule, fields);
+        return this;
+    }
+
+    /**
+     * Rejects the passwords of {@code FieldsType.PASSWORD} fields that are found in a list of
+     * known breached passwords. The check is done offline, against a filter built from the list
+     * with {@link com.alburivan.slickform.validators.BloomFilterBuilder}.
+     *
+     * @param filter The breached passwords filter, or {@code null} to disable the check
+     * @return This instance of SlickForm
+     */
+    public SlickForm withBreachedPasswordFilter(BloomFilter filter) {
+        this.breachedPasswordFilter = filter;
+        return this;
+    }
+
+    /**
+     * Rejects the emails of {@code FieldsType.EMAIL} fields whose domain, or a domain it belongs
+     * to, is in a blocklist such as a list of disposable email providers. The blocklist is built
+     * with {@link com.alburivan.slickform.validators.DomainBlocklistBuilder}.
+     *
+     * @param blocklist The blocked domains, or {@code null} to disable the check
+     * @return This instance of SlickForm
+     */
+    public SlickForm withEmailDomainBlocklist(DomainBlocklist blocklist) {
+        this.emailDomainBlocklist = blocklist;
+        return this;
+    }
+
     /**
      * Changes the form's is label when its doing background work
      *
@@ -242,6 +322,78 @@ public class SlickForm extends LinearLayout {
         return this;
     }
 
+    /**
+     * Changes the timing of the animations played once the background work is done, the default
+     * is {@link TimingProfile#FULL}.
+     *
+     * @param profile The timing profile to be applied
+     * @return This instance of SlickForm
+     */
+    public SlickForm withTimingProfile(TimingProfile profile) {
+        this.timingProfile = profile;
+        return this;
+    }
+
+    /**
+     * Delivers {@link IOnProcessChange#workFinished()} as soon as the background work returns,
+     * instead of waiting for the end animation. The animation keeps playing on its own.
+     *
+     * @param state {@code true} to deliver the callback on result, {@code false} otherwise
+     * @return This instance of SlickForm
+     */
+    public SlickForm withWorkFinishedOnResult(boolean state) {
+        this.isWorkFinishedOnResult = state;
+        return this;
+    }
+
+    /**
+     * Sets a callback that runs off the main thread as soon as each step of the form validates,
+     * its results are available to the final handler through {@link FormField#getStepResult()}.
+     *
+     * @param listener The step process callback
+     * @return This instance of SlickForm
+     */
+    public SlickForm setOnStepProcessListener(IOnStepProcess listener) {
+        this.mStepListener = listener;
+        return this;
+    }
+
+    /**
+     * Sets a callback that runs off the main thread once the user reaches the last step of the
+     * form, since the submission is likely a few seconds away.
+     *
+     * @param listener The warm up callback
+     * @return This instance of SlickForm
+     */
+    public SlickForm setOnWarmUpListener(IOnWarmUp listener) {
+        return setOnWarmUpListener(listener, -1);
+    }
+
+    /**
+     * Sets a callback that runs off the main thread once the user reaches the given step of the
+     * form. It is cancelled if the form is detached before being submitted.
+     *
+     * @param listener The warm up callback
+     * @param step The position of the field that triggers the callback, or {@code -1} for the
+     *             last one
+     * @return This instance of SlickForm
+     */
+    public SlickForm setOnWarmUpListener(IOnWarmUp listener, int step) {
+        this.mWarmUpListener = listener;
+        this.warmUpStep = step;
+        return this;
+    }
+
+    /**
+     * Cancels the warm up callback if it is still running, it is called on your behalf when the
+     * form is detached before being submitted. A cancelled warm up starts again once the form is
+     * attached back.
+     */
+    public void cancelWarmUp() {
+        if (warmUpAsyncTask != null && dutyAsyncTask == null && warmUpAsyncTask.cancel(true))
+            warmUpAsyncTask = null;
+    }
+
     /**
      * @param listener The process change callback
      * @return This instance of SlickForm
@@ -251,9 +403,42 @@ public class SlickForm extends LinearLayout {
         return this;
     }
 
-    /** It does nothing, but look as a cool huh */
+    /**
+     * Validates every field of the form at once, such as when a saved draft is restored, see
+     * {@link #validateAll(Executor, IOnFormValidation)}. The fields are validated on
+     * {@link AsyncTask#THREAD_POOL_EXECUTOR}.
+     *
+     * @param listener Receives the invalid fields on the main thread
+     */
+    public void validateAll(IOnFormValidation listener) {
+        validateAll(AsyncTask.THREAD_POOL_EXECUTOR, listener);
+    }
+
+    /**
+     * Validates every field of the form at once, such as when a saved draft is restored. Each
+     * field is validated as its own task on the given executor, so slow custom validations
+     * overlap instead of adding up, then the cross field rules run and every failure is handed
+     * back to the main thread in a single call.
+     *
+     * <p>
+     *     Custom validations and rules run on the executor's threads in this mode, they must read
+     *     the field through {@link FormField#getRawText()}, {@link FormField#getInputFieldText()}
+     *     or its number and date getters, which return a copy of the text taken when the
+     *     validation started, never through the EditText. If a field is edited before the
+     *     validation is done it starts over, so every result comes from the same text. Must be
+     *     called from the main thread.
+     * </p>
+     *
+     * @param executor The executor running the validations, such as a ForkJoinPool
+     * @param listener Receives the invalid fields on the main thread
+     */
+    public void validateAll(Executor executor, IOnFormValidation listener) {
+        new FormValidation(executor, listener).start();
+    }
+
+    /** Gets the first field ready while the main thread is idle, and looks cool too huh */
     public void ready() {
-       // do nothing
+        preInflateField(0);
     }
 
 
@@ -268,6 +453,10 @@ public class SlickForm extends LinearLayout {
      */
     private void processFormState() {
 
+        // the field is still sliding out, it was already accepted
+        if(slideTween != null && slideTween.isRunning())
+            return;
+
         if(currentFieldPosition == -1) {
             Log.d(DEBUG_TAG, "process(): begin");
             processFormFieldBegin();
@@ -277,7 +466,7 @@ public class SlickForm extends LinearLayout {
         FormField field =  formFields.get(currentFieldPosition);
 
         if (field != null)
-            processFormField(field);
+            processFormField(field, true);
         else
             processFormFieldEnd();
     }
@@ -295,13 +484,11 @@ public class SlickForm extends LinearLayout {
         slickFieldContainer.setVisibility(View.VISIBLE);
         slickFieldContainer.setAlpha(0.0f);
 
-        slickFieldContainer.animate()
-                .translationY(slickFormSubmitButton.getY())
-                .alpha(1.0f);
-
+        applyFadeInAnimationTo(slickFieldContainer, slickFormSubmitButton.getY());
         applySlideDownAnimationTo(slickFormSubmitButton);
 
-        slickFieldContainer.addView(field);
+        addFieldView(field);
+        startWarmUpIfReached();
     }
 
     /**
@@ -309,28 +496,67 @@ public class SlickForm extends LinearLayout {
      * next target in the list.
      *
      * @param field The current form field to be evaluated
+     * @param canAwaitRemoteChecks {@code true} to wait for the pending remote checks of the field
+     *                             instead of showing it as invalid
      */
-    private void processFormField(FormField field) {
+    private void processFormField(FormField field, boolean canAwaitRemoteChecks) {
+        remoteCheckResubmit = null;
+
+        RuleChain chain = field.getRuleChain();
+        IValidationRule failingRule = null;
+        boolean isValid = validateType(field, field.getFormFieldType())
+                && (chain == null || (failingRule = chain.findFailingRule(field)) == null)
+                && crossFieldGraph.validate(field);
+
+        if(!isValid){
+            // only a remote check that is still unanswered is worth waiting for, a field that
+            // failed anything before it is shown as invalid right away
+            if (canAwaitRemoteChecks && failingRule instanceof RemoteCheckValidator
+                    && awaitRemoteCheck(field, (RemoteCheckValidator) failingRule))
+                return;
 
-        if(!validateView(field, field.getFormFieldType())){
             showWarningDialog();
             field.getInputField().requestFocus();
             return;
         }
 
-        applySlideLeftAnimationTo(slickFieldContainer.getChildAt(0))
-                .setAnimationListener(new Animation.AnimationListener() {
-                    @Override
-                    public void onAnimationStart(Animation animation) {}
+        // the step hook and the background work read the accepted text off the main thread
+        field.takeTextSnapshot();
 
-                    @Override
-                    public void onAnimationEnd(Animation animation) {
-                        changeTarget();
-                    }
+        if(mStepListener != null)
+            new StepAsyncTask(field, currentFieldPosition).execute();
+
+        // the last field is valid, there is no need to wait for the animation to start working
+        if(currentFieldPosition == formFields.size() - 1)
+            startBackgroundWork();
 
-                    @Override
-                    public void onAnimationRepeat(Animation animation) {}
-                });
+        slideTween = applySlideLeftAnimationTo(slickFieldContainer.getChildAt(0));
+    }
+
+    /**
+     * Submits the field again once the remote check it failed is answered, unless the user moved
+     * on or submitted it again in the meantime.
+     *
+     * @return {@code true} if the field is waiting for an answer
+     */
+    private boolean awaitRemoteCheck(final FormField field, RemoteCheckValidator check) {
+        Runnable resubmit = new Runnable() {
+            @Override
+            public void run() {
+                if (remoteCheckResubmit != this)
+                    return;
+
+                // a failed check is not cached, so the field is not made to wait a second time
+                if (currentFieldPosition >= 0 && formFields.get(currentFieldPosition) == field)
+                    processFormField(field, false);
+            }
+        };
+
+        if (!check.whenAnswered(field, resubmit))
+            return false;
+
+        remoteCheckResubmit = resubmit;
+        return true;
     }
 
     /**
@@ -341,7 +567,38 @@ public class SlickForm extends LinearLayout {
         slickFieldContainer.setVisibility(View.GONE);
         slickFormProgressBar.setVisibility(View.VISIBLE);
 
-        new DutyAsyncTask().execute();
+        startBackgroundWork();
+        inflateEndAnimation();
+        dutyAsyncTask.onUiReady();
+    }
+
+    /**
+     * The end animation's views are only needed after the form is submitted, so they are kept in
+     * a ViewStub and inflated here instead of when the form itself is inflated.
+     */
+    private void inflateEndAnimation() {
+        if (slickEndAnimationContainer != null)
+            return;
+
+        slickEndAnimationContainer   = (RelativeLayout) slickEndAnimationStub.inflate();
+        slickEndAnimationProgressBar = slickEndAnimationContainer.findViewById(R.id.slick_form_end_progress_bar);
+        slickEndAnimationProgress    = new ProgressDrawable(ProgressDrawable.RING, Color.TRANSPARENT,
+                ContextCompat.getColor(mContext, R.color.colorPrimary),
+                TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, 5, getResources().getDisplayMetrics()));
+        setBackground(slickEndAnimationProgressBar, slickEndAnimationProgress);
+        slickSVGIcon                 = (ImageView) slickEndAnimationContainer.findViewById(R.id.svgIcon);
+    }
+
+    /**
+     * Starts the developer's background work, unless it is already running. The end animation
+     * only plays once both the work and the form's UI are done.
+     */
+    private void startBackgroundWork() {
+        if (dutyAsyncTask != null)
+            return;
+
+        dutyAsyncTask = new DutyAsyncTask();
+        dutyAsyncTask.execute();
     }
 
 
@@ -368,15 +625,180 @@ public class SlickForm extends LinearLayout {
             );
 
             slickFieldContainer.removeViewAt(0);
-            slickFieldContainer.addView(field);
+            addFieldView(field);
         } else {
             slickFieldContainer.removeViewAt(0);
-            slickFieldContainer.addView(field);
+            addFieldView(field);
             slickFormSubmitButton.setText(field.getStepLabel());
         }
 
         field.getInputField().requestFocus();
         slickFormSubmitButton.invalidate();
+        startWarmUpIfReached();
+    }
+
+    /**
+     * Starts the warm up callback on the thread pool once the current field is the configured
+     * one, so neither the step transition nor the serial background work has to wait for it.
+     */
+    private void startWarmUpIfReached() {
+        if (mWarmUpListener == null || warmUpAsyncTask != null)
+            return;
+
+        int step = warmUpStep < 0 ? formFields.size() - 1 : warmUpStep;
+
+        if (currentFieldPosition < step)
+            return;
+
+        // the warm up gets every field, views can only be inflated on the main thread
+        for (FormField field : formFields)
+            field.ensureInflated();
+
+        warmUpAsyncTask = new WarmUpAsyncTask();
+        warmUpAsyncTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        // a detach, such as a ViewPager page going off screen, may have cancelled the warm up
+        if (currentFieldPosition >= 0 && dutyAsyncTask == null)
+            startWarmUpIfReached();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // the field is left in place, it will be validated again on the next click
+        if (slideTween != null && slideTween.isRunning()) {
+            slideTween.cancel();
+            slickFieldContainer.getChildAt(0).setTranslationX(0.0f);
+        }
+
+        slideTween = null;
+
+        cancelWarmUp();
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Adds the given field to the field container, laying it out the same way as this form.
+     *
+     * @param field The field to be shown
+     */
+    private void addFieldView(FormField field) {
+        field.ensureInflated();
+        field.setFlatLayout(isFlatLayout);
+        field.setLayoutStats(layoutStats);
+        slickFieldContainer.addView(field);
+
+        preInflateField(currentFieldPosition + 1);
+    }
+
+    /**
+     * Inflates the field at the given position once the main thread is idle, so it does not cost
+     * a frame when the user moves on to it. If it is not done in time, the field is inflated
+     * synchronously when it gets shown.
+     *
+     * @param position The position of the field to inflate
+     */
+    private void preInflateField(int position) {
+        if (position < 0 || position >= formFields.size())
+            return;
+
+        final FormField field = formFields.get(position);
+
+        if (field.isInflated())
+            return;
+
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            @Override
+            public boolean queueIdle() {
+                field.ensureInflated();
+                return false;
+            }
+        });
+    }
+
+    /**
+     * When the flat layout is enabled the form's children are measured and stacked vertically
+     * in a single pass, instead of going through the nested layouts of {@code library_main_layout}.
+     * The form is expected to have an exact width in this mode, as {@code match_parent} children
+     * are not measured a second time to match the widest one.
+     */
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        layoutStats.onMeasure();
+
+        if (!isFlatLayout) {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+            return;
+        }
+
+        int usedHeight = 0;
+        int maxWidth = 0;
+
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+
+            if (child.getVisibility() == GONE)
+                continue;
+
+            measureChildWithMargins(child, widthMeasureSpec, 0, heightMeasureSpec, usedHeight);
+
+            LayoutParams lp = (LayoutParams) child.getLayoutParams();
+            usedHeight += child.getMeasuredHeight() + lp.topMargin + lp.bottomMargin;
+            maxWidth = Math.max(maxWidth, child.getMeasuredWidth() + lp.leftMargin + lp.rightMargin);
+        }
+
+        int width = Math.max(maxWidth + getPaddingLeft() + getPaddingRight(), getSuggestedMinimumWidth());
+        int height = Math.max(usedHeight + getPaddingTop() + getPaddingBottom(), getSuggestedMinimumHeight());
+
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        layoutStats.onLayout();
+
+        if (!isFlatLayout) {
+            super.onLayout(changed, l, t, r, b);
+            return;
+        }
+
+        int width = r - l - getPaddingLeft() - getPaddingRight();
+        int top = getPaddingTop();
+
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+
+            if (child.getVisibility() == GONE)
+                continue;
+
+            LayoutParams lp = (LayoutParams) child.getLayoutParams();
+            int left = getPaddingLeft() + lp.leftMargin;
+
+            if ((lp.gravity & Gravity.HORIZONTAL_GRAVITY_MASK) == Gravity.CENTER_HORIZONTAL)
+                left = getPaddingLeft() + (width - child.getMeasuredWidth()) / 2 + lp.leftMargin - lp.rightMargin;
+
+            top += lp.topMargin;
+            child.layout(left, top, left + child.getMeasuredWidth(), top + child.getMeasuredHeight());
+            top += child.getMeasuredHeight() + lp.bottomMargin;
+        }
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        layoutStats.onFrame();
+        super.dispatchDraw(canvas);
+    }
+
+    /**
+     * @return The measure and layout counts of this form and its fields, useful to compare the
+     *         default layout against the flat one enabled with {@code slick_flatLayout}
+     */
+    public LayoutStats getLayoutStats() {
+        return layoutStats;
     }
 
     /**
@@ -424,13 +846,196 @@ public class SlickForm extends LinearLayout {
     }
 
     /**
-     * In charge of giving the control of background processing to the
+     * In charge of running the developer's {@link IOnWarmUp} in the background and of letting
+     * it know when the form is abandoned.
+     */
+    private class WarmUpAsyncTask extends AsyncTask<Void, Void, Void> {
+
+        @Override
+        protected Void doInBackground(Void... params) {
+            if (Looper.myLooper() == null)
+                Looper.prepare();
+
+            mWarmUpListener.warmUpInBackground(formFields);
+            return null;
+        }
+
+        @Override
+        protected void onCancelled() {
+            super.onCancelled();
+            mWarmUpListener.warmUpCancelled();
+        }
+    }
+
+    /**
+     * In charge of processing a single validated step in the background with the developer's
+     * {@link IOnStepProcess}. Like {@link DutyAsyncTask} it runs on the serial executor, so every
+     * step is done before the final work starts.
+     */
+    private class StepAsyncTask extends AsyncTask<Void, Void, Void> {
+
+        private final FormField field;
+        private final int position;
+
+        StepAsyncTask(FormField field, int position) {
+            this.field = field;
+            this.position = position;
+        }
+
+        @Override
+        protected Void doInBackground(Void... params) {
+            if (Looper.myLooper() == null)
+                Looper.prepare();
+
+            field.setStepResult(mStepListener.processStepInBackground(field, position));
+            return null;
+        }
+    }
+
+    /**
+     * Forks the validation of every field to an executor, then joins the results on the main
+     * thread once the last one is done.
+     */
+    private class FormValidation {
+
+        private final Executor executor;
+        private final IOnFormValidation listener;
+        private final List<FormField> fields            = new ArrayList<>(formFields);
+        private final boolean[] results                 = new boolean[fields.size()];
+        private final int[] textVersions                = new int[fields.size()];
+        private final AtomicInteger pendingCount        = new AtomicInteger(fields.size());
+        private final Handler uiHandler                 = new Handler(Looper.getMainLooper());
+
+        FormValidation(Executor executor, IOnFormValidation listener) {
+            this.executor = executor;
+            this.listener = listener;
+        }
+
+        void start() {
+            if (fields.isEmpty()) {
+                uiHandler.post(gatherResults);
+                return;
+            }
+
+            // views can only be inflated and read on the main thread, so it is done before forking
+            for (int i = 0; i < fields.size(); i++) {
+                FormField field = fields.get(i);
+
+                field.ensureInflated();
+                field.takeTextSnapshot();
+                textVersions[i] = field.getTextVersion();
+            }
+
+            for (int i = 0; i < fields.size(); i++)
+                executor.execute(new FieldValidation(i));
+        }
+
+        private class FieldValidation implements Runnable {
+
+            private final int position;
+
+            FieldValidation(int position) {
+                this.position = position;
+            }
+
+            @Override
+            public void run() {
+                FormField field = fields.get(position);
+
+                try {
+                    results[position] = validateView(field, field.getFormFieldType());
+                }
+                catch (Exception e) {
+                    Log.e(DEBUG_TAG, "validateAll(): validation of field " + position + " failed", e);
+                    results[position] = false;
+                }
+
+                // the counter publishes the result to the thread that gathers them
+                if (pendingCount.decrementAndGet() == 0)
+                    uiHandler.post(gatherResults);
+            }
+        }
+
+        private final Runnable gatherResults = new Runnable() {
+            @Override
+            public void run() {
+                // the cross field rules read the live text, so a field edited since its snapshot
+                // would be judged on two different texts, the whole form is validated again
+                for (int i = 0; i < fields.size(); i++) {
+                    if (fields.get(i).getTextVersion() != textVersions[i]) {
+                        new FormValidation(executor, listener).start();
+                        return;
+                    }
+                }
+
+                List<FormField> invalidFields = new ArrayList<>();
+
+                for (int i = 0; i < fields.size(); i++) {
+                    if (!results[i])
+                        invalidFields.add(fields.get(i));
+                }
+
+                crossFieldGraph.validateAll(invalidFields);
+
+                // cross field failures were appended, so restore the form's order
+                if (invalidFields.size() > 1) {
+                    List<FormField> orderedFields = new ArrayList<>(invalidFields.size());
+
+                    for (FormField field : fields) {
+                        if (invalidFields.contains(field))
+                            orderedFields.add(field);
+                    }
+
+                    invalidFields = orderedFields;
+                }
+
+                listener.validationFinished(invalidFields);
+            }
+        };
+    }
+
+    /**
+     * In charge of giving the control of background processing to the developer's
+     * {@link IOnProcessChange} and of reflecting the reported progress on the progress bar.
+     *
+     * <p>
+     *     Progress reported from the background thread is coalesced so that only the latest value
+     *     is kept, and it is applied on the UI thread at most once every
+     *     {@link #PROGRESS_THROTTLE_MILLIS}.
+     * </p>
+     *
+     * <p>
+     *     The work may start while the last field is still sliding out, the result is held until
+     *     {@link #onUiReady()} is called so both are joined before the end animation plays.
+     * </p>
      */
-    private class DutyAsyncTask extends AsyncTask<Void, Integer, Boolean> {
+    private class DutyAsyncTask extends AsyncTask<Void, Void, Boolean> implements IProgressReporter {
+
+        private final Handler uiHandler                 = new Handler(Looper.getMainLooper());
+        private final AtomicInteger latestProgress      = new AtomicInteger(0);
+        private final AtomicBoolean isUpdatePending     = new AtomicBoolean(false);
+        private volatile boolean isFinished             = false;
+        private volatile long lastUpdateTime            = 0;
+        private Boolean result                          = null;
+        private boolean isUiReady                       = false;
+
+        private final Runnable applyProgress = new Runnable() {
+            @Override
+            public void run() {
+                isUpdatePending.set(false);
+
+                if (isFinished)
+                    return;
+
+                lastUpdateTime = SystemClock.uptimeMillis();
+                slickFormProgress.setProgress(latestProgress.get() / 100.0f);
+            }
+        };
 
         @Override
         protected void onPreExecute() {
             super.onPreExecute();
+            slickFormProgress.setProgress(0.0f);
         }
 
         @Override
@@ -438,92 +1043,195 @@ public class SlickForm extends LinearLayout {
             if (Looper.myLooper() == null)
                 Looper.prepare();
 
+            if (mActionListener instanceof IOnProcessProgressChange)
+                return ((IOnProcessProgressChange) mActionListener).workInBackground(formFields, this);
+
             return mActionListener != null && mActionListener.workInBackground(formFields);
         }
 
+        @Override
+        public void report(int percent) {
+            if (isFinished)
+                return;
+
+            latestProgress.set(Math.max(0, Math.min(100, percent)));
+
+            if (isUpdatePending.compareAndSet(false, true)) {
+                long delay = lastUpdateTime + PROGRESS_THROTTLE_MILLIS - SystemClock.uptimeMillis();
+                uiHandler.postDelayed(applyProgress, Math.max(0, delay));
+            }
+        }
+
         @Override
         protected void onPostExecute(final Boolean state) {
             super.onPostExecute(state);
 
-            ProgressBarAnimation anim = new ProgressBarAnimation(slickFormProgressBar, 0.0f, 100.0f);
-            anim.setInterpolator(new AccelerateInterpolator());
-            anim.setDuration(1000);
-            anim.setAnimationListener(new Animation.AnimationListener() {
-                @Override
-                public void onAnimationStart(Animation animation) {}
+            isFinished = true;
+            uiHandler.removeCallbacks(applyProgress);
 
-                @Override
-                public void onAnimationEnd(Animation animation) {
+            result = state;
 
-                    Animation fadeOut = new AlphaAnimation(1, 0);
-                    fadeOut.setInterpolator(new AccelerateInterpolator());
-                    fadeOut.setDuration(200);
+            if (isWorkFinishedOnResult)
+                notifyWorkFinished();
 
-                    AnimationSet set = new AnimationSet(true);
-                    set.addAnimation(fadeOut);
-                    set.setAnimationListener(new Animation.AnimationListener() {
-                        @Override
-                        public void onAnimationStart(Animation animation) {}
+            if (isUiReady)
+                playProgressFill(state);
+        }
 
-                        @Override
-                        public void onAnimationEnd(Animation animation) {
+        /**
+         * Called once the form is showing its progress bar, plays the end animation right away
+         * if the background work already returned.
+         */
+        void onUiReady() {
+            isUiReady = true;
 
-                            slickFieldContainer.setVisibility(GONE);
-                            slickFormSubmitButton.setVisibility(GONE);
-                            slickFormProgressBar.setVisibility(GONE);
-                            slickEndAnimationContainer.setVisibility(VISIBLE);
+            if (result != null)
+                playProgressFill(result);
+        }
+    }
 
-                            ObjectAnimator anims = ObjectAnimator.ofInt (slickEndAnimationProgressBar, "progress", 0, 500);
-                            anims.setDuration (450);
-                            anims.setInterpolator (new DecelerateInterpolator());
-                            anims.addListener(new Animator.AnimatorListener() {
-                                @Override
-                                public void onAnimationStart(Animator animation) {}
+    /**
+     * Fills the rest of the progress bar, only the part the background work has not reported yet
+     * is animated so the fill finishes in the minimum remaining time.
+     *
+     * @param state The result of the background work
+     */
+    private void playProgressFill(final boolean state) {
+        float current = slickFormProgress.getProgress();
+        long duration = (long) (timingProfile.getProgressFillDuration() * (1.0f - current));
 
-                                @Override
-                                public void onAnimationEnd(Animator animation) {
+        if (duration <= 0) {
+            slickFormProgress.setProgress(1.0f);
+            playFadeOut(state);
+            return;
+        }
 
-                                    slickSVGIcon = (PathView) findViewById(R.id.svgIcon);
-                                    slickSVGIcon.setVisibility(VISIBLE);
+        final float from = current;
 
-                                    if(!state)
-                                        slickSVGIcon.setSvgResource(R.raw.ic_cross_mark);
+        new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                slickFormProgress.setProgress(from + (1.0f - from) * fraction);
+            }
 
-                                    slickSVGIcon.getPathAnimator()
-                                            .delay(20)
-                                            .duration(500)
-                                            .interpolator(new AccelerateDecelerateInterpolator())
-                                            .start();
+            @Override
+            protected void onEnd() {
+                playFadeOut(state);
+            }
+        }.setDuration(scaleDuration(duration)).setInterpolator(FrameTicker.ACCELERATE).start();
+    }
 
-                                    slickSVGIcon.setFillAfter(true);
+    /**
+     * Fades the whole form out before showing its end state
+     *
+     * @param state The result of the background work
+     */
+    private void playFadeOut(final boolean state) {
+        long duration = scaleDuration(timingProfile.getFadeOutDuration());
 
-                                    mActionListener.workFinished();
-                                }
+        if (duration <= 0) {
+            playEndAnimation(state);
+            return;
+        }
 
-                                @Override
-                                public void onAnimationCancel(Animator animation) {}
+        new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                setAlpha(1.0f - fraction);
+            }
+
+            @Override
+            protected void onEnd() {
+                setAlpha(1.0f);
+                playEndAnimation(state);
+            }
+        }.setDuration(duration).setInterpolator(FrameTicker.ACCELERATE).start();
+    }
 
-                                @Override
-                                public void onAnimationRepeat(Animator animation) {}
-                            });
+    /**
+     * Hides the form's inputs and fills the circular progress ring, once filled the success or
+     * failure icon is drawn.
+     *
+     * @param state The result of the background work
+     */
+    private void playEndAnimation(final boolean state) {
+        inflateEndAnimation();
 
-                            anims.start();
-                        }
+        slickFieldContainer.setVisibility(GONE);
+        slickFormSubmitButton.setVisibility(GONE);
+        slickFormProgressBar.setVisibility(GONE);
+        slickEndAnimationContainer.setVisibility(VISIBLE);
 
-                        @Override
-                        public void onAnimationRepeat(Animation animation) {}
-                    });
+        if (timingProfile.getRingFillDuration() <= 0) {
+            slickEndAnimationProgress.setProgress(1.0f);
+            playResultIcon(state);
+            return;
+        }
 
-                    startAnimation(set);
-                }
+        new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                slickEndAnimationProgress.setProgress(fraction);
+            }
+
+            @Override
+            protected void onEnd() {
+                playResultIcon(state);
+            }
+        }.setDuration(scaleDuration(timingProfile.getRingFillDuration()))
+                .setInterpolator(FrameTicker.DECELERATE)
+                .start();
+    }
 
-                @Override
-                public void onAnimationRepeat(Animation animation) {
+    /**
+     * Draws the success or failure icon and, unless it was already delivered, gives the control
+     * back to the developer.
+     *
+     * @param state The result of the background work
+     */
+    private void playResultIcon(boolean state) {
+        final PathTrimDrawable mark = new PathTrimDrawable(state ? PathTrimDrawable.CHECK_MARK : PathTrimDrawable.CROSS_MARK,
+                ContextCompat.getColor(mContext, R.color.colorPrimary),
+                TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 1, getResources().getDisplayMetrics()));
+        mark.setFillAfter(true);
+
+        slickSVGIcon.setImageDrawable(mark);
+        slickSVGIcon.setVisibility(VISIBLE);
 
+        if (timingProfile.getIconDrawDuration() <= 0) {
+            mark.setPercentage(1.0f);
+        } else {
+            new Tween() {
+                @Override
+                protected void onUpdate(float fraction) {
+                    mark.setPercentage(fraction);
                 }
-            });
-            slickFormProgressBar.startAnimation(anim);
+            }.setStartDelay(scaleDuration(timingProfile.getIconDelay()))
+                    .setDuration(scaleDuration(timingProfile.getIconDrawDuration()))
+                    .setInterpolator(FrameTicker.ACCELERATE_DECELERATE)
+                    .start();
         }
+
+        if (!isWorkFinishedOnResult)
+            notifyWorkFinished();
+    }
+
+    /**
+     * Gives the control back to the developer once the form is done
+     */
+    private void notifyWorkFinished() {
+        if (mActionListener != null)
+            mActionListener.workFinished();
+    }
+
+    /**
+     * Tweens do not follow the system's animator duration scale, so it is applied here.
+     *
+     * @param duration The unscaled duration in milliseconds
+     * @return The duration scaled by the system's animator duration scale
+     */
+    private long scaleDuration(long duration) {
+        return (long) (duration * FrameTicker.getDurationScale(mContext));
     }
 
     /**
@@ -539,6 +1247,7 @@ public class SlickForm extends LinearLayout {
             builder.gravity(Gravity.END);
             builder.animated(true);
             builder.transparentOverlay(true);
+            builder.inWindow(true);
 
             SimpleTooltip mTooltip = builder.build();
 
@@ -555,7 +1264,8 @@ public class SlickForm extends LinearLayout {
      * <p>
      *     In addition you can add your own custom validation if needed by calling
      *     {@link FormField#withCustomValidation(IOnCustomValidation)} on the field(s)
-     *     required and implementing your own validation logic.
+     *     required and implementing your own validation logic, or chain several rules with
+     *     {@link FormField#withRule(com.alburivan.slickform.interfaces.IValidationRule)}.
      * </p>
      *
      * @param field The view supplied for validation
@@ -563,34 +1273,65 @@ public class SlickForm extends LinearLayout {
      * @return {@code false} if invalid or {@code true} otherwise
      */
     private boolean validateView(FormField field, FieldsType type) {
+        // the chain runs last, its rules are at least as expensive as the type checks
+        return validateType(field, type)
+                && (field.getRuleChain() == null || field.getRuleChain().validate(field));
+    }
+
+    /**
+     * Runs the checks of the field's type, without its rule chain.
+     *
+     * @param field The view supplied for validation
+     * @param type The type comparition
+     * @return {@code false} if invalid or {@code true} otherwise
+     */
+    private boolean validateType(FormField field, FieldsType type) {
 
         switch (type){
 
             case TEXT:
-                if (field.getInputField().getText().toString().trim().length() <= MINIMUM_NAME_CHARACTERS_INPUT)
+                if (field.getRawText().toString().trim().length() <= MINIMUM_NAME_CHARACTERS_INPUT)
                     return false;
                 break;
 
             case EMAIL:
-                if(field.getInputField().getText().toString().trim().length() <= MINIMUM_CHARACTERS_INPUT)
+                if(field.getRawText().toString().trim().length() <= MINIMUM_CHARACTERS_INPUT)
+                    return false;
+
+                if(!isEmailValid(field.getRawText().toString()))
                     return false;
 
-                if(!isEmailValid(field.getInputField().getText().toString()))
+                if(emailDomainBlocklist != null && emailDomainBlocklist.isBlockedEmail(field.getRawText()))
                     return false;
                 break;
 
             case PASSWORD:
-                if(field.getInputField().getText().toString().trim().length() <= MINIMUM_CHARACTERS_INPUT)
+                if(field.getRawText().toString().trim().length() <= MINIMUM_CHARACTERS_INPUT)
+                    return false;
+
+                if(breachedPasswordFilter != null && breachedPasswordFilter.mightContain(field.getRawText()))
+                    return false;
+                break;
+
+            case NUMERIC:
+                double number = field.getDouble();
+                if(Double.isNaN(number) || number < field.getMinValue() || number > field.getMaxValue())
+                    return false;
+                break;
+
+            case DATE_TIME:
+                long dateTime = field.getDateTime();
+                if(dateTime == DateTimeParser.INVALID || dateTime < field.getMinDateTime() || dateTime > field.getMaxDateTime())
                     return false;
                 break;
 
             case CUSTOM:
-                if(field.getCallback() != null)
-                    return field.getCallback().withCustomValidation(field);
+                if(field.getCallback() != null && !field.getCallback().withCustomValidation(field))
+                    return false;
                 break;
 
             default:
-                return true;
+                break;
         }
 
         return true;
@@ -607,34 +1348,68 @@ public class SlickForm extends LinearLayout {
         return android.util.Patterns.EMAIL_ADDRESS.matcher(email).matches();
     }
 
+    @SuppressWarnings("deprecation")
+    private static void setBackground(View view, Drawable drawable) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+            view.setBackground(drawable);
+        else
+            view.setBackgroundDrawable(drawable);
+    }
+
     /**
-     * Applies a slide down animation relative to itself to the view supplied
+     * Fades in the view supplied while moving it to the given vertical translation
      */
-    private Animation applySlideDownAnimationTo(View view) {
-        Animation animation = new TranslateAnimation(
-                Animation.RELATIVE_TO_SELF, 0.0f, Animation.RELATIVE_TO_SELF, 0.0f,
-                Animation.RELATIVE_TO_SELF, -1.0f, Animation.RELATIVE_TO_SELF, 0.0f
-        );
-
-        animation.setDuration(100);
-        animation.setInterpolator(new AccelerateInterpolator());
-        view.startAnimation(animation);
-
-        return animation;
+    private Tween applyFadeInAnimationTo(final View view, final float translationY) {
+        final float fromTranslationY = view.getTranslationY();
+
+        Tween tween = new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                view.setAlpha(fraction);
+                view.setTranslationY(fromTranslationY + (translationY - fromTranslationY) * fraction);
+            }
+        };
+
+        tween.setDuration(scaleDuration(300)).setInterpolator(FrameTicker.ACCELERATE_DECELERATE).start();
+        return tween;
     }
 
     /**
      * Applies a slide down animation relative to itself to the view supplied
      */
-    private Animation applySlideLeftAnimationTo(View view) {
-        Animation animation = new TranslateAnimation(
-                Animation.RELATIVE_TO_PARENT, 0.0f, Animation.RELATIVE_TO_PARENT, -1.0f,
-                Animation.RELATIVE_TO_PARENT, 0.0f, Animation.RELATIVE_TO_PARENT, 0.0f
-        );
-        animation.setDuration(200);
-        animation.setInterpolator(new AccelerateInterpolator());
-        view.startAnimation(animation);
+    private Tween applySlideDownAnimationTo(final View view) {
+        Tween tween = new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                view.setTranslationY(-view.getHeight() * (1.0f - fraction));
+            }
+        };
+
+        tween.setDuration(scaleDuration(100)).setInterpolator(FrameTicker.ACCELERATE).start();
+        return tween;
+    }
 
-        return animation;
+    /**
+     * Applies a slide left animation relative to its parent to the view supplied, once it is out
+     * of sight the form changes on to the next target
+     */
+    private Tween applySlideLeftAnimationTo(final View view) {
+        final int parentWidth = ((View) view.getParent()).getWidth();
+
+        Tween tween = new Tween() {
+            @Override
+            protected void onUpdate(float fraction) {
+                view.setTranslationX(-parentWidth * fraction);
+            }
+
+            @Override
+            protected void onEnd() {
+                view.setTranslationX(0.0f);
+                changeTarget();
+            }
+        };
+
+        tween.setDuration(scaleDuration(200)).setInterpolator(FrameTicker.ACCELERATE).start();
+        return tween;
     }
 }
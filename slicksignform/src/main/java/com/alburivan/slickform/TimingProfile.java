@@ -0,0 +1,59 @@
+package com.alburivan.slickform;
+
+/**
+ * This class represent the available timings for the animations that a SlickForm plays once
+ * its background work is done. Every duration is expressed in milliseconds and is further
+ * scaled by the system's animator duration scale.
+ */
+public enum TimingProfile {
+
+   /** The original end sequence, roughly 2.2 seconds from result to callback */
+   FULL(1000, 200, 450, 20, 500),
+
+   /** A shorter end sequence, roughly 0.8 seconds from result to callback */
+   REDUCED(300, 100, 200, 0, 250),
+
+   /** No animations at all, the end state is shown as soon as the result is known */
+   INSTANT(0, 0, 0, 0, 0);
+
+
+   private final int progressFillDuration;
+   private final int fadeOutDuration;
+   private final int ringFillDuration;
+   private final int iconDelay;
+   private final int iconDrawDuration;
+
+   TimingProfile(int progressFillDuration, int fadeOutDuration, int ringFillDuration,
+                 int iconDelay, int iconDrawDuration) {
+      this.progressFillDuration = progressFillDuration;
+      this.fadeOutDuration = fadeOutDuration;
+      this.ringFillDuration = ringFillDuration;
+      this.iconDelay = iconDelay;
+      this.iconDrawDuration = iconDrawDuration;
+   }
+
+   /** @return The time it takes the progress bar to fill from 0 to 100 */
+   public int getProgressFillDuration() {
+      return progressFillDuration;
+   }
+
+   /** @return The time it takes the form to fade out once the progress bar is full */
+   public int getFadeOutDuration() {
+      return fadeOutDuration;
+   }
+
+   /** @return The time it takes the circular progress ring to fill */
+   public int getRingFillDuration() {
+      return ringFillDuration;
+   }
+
+   /** @return The delay before the success or failure icon starts being drawn */
+   public int getIconDelay() {
+      return iconDelay;
+   }
+
+   /** @return The time it takes the success or failure icon to be drawn */
+   public int getIconDrawDuration() {
+      return iconDrawDuration;
+   }
+}
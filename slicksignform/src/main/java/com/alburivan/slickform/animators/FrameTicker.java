@@ -0,0 +1,148 @@
+package com.alburivan.slickform.animators;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.provider.Settings;
+import android.view.Choreographer;
+import android.view.animation.AccelerateDecelerateInterpolator;
+import android.view.animation.AccelerateInterpolator;
+import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
+
+import java.util.ArrayList;
+
+/**
+ * (っ･_･)っ
+ *  FrameTicker drives every running {@link Tween} of the library from a single frame callback
+ *  on the main thread, no matter how many forms or tooltips are animating. The callback is only
+ *  registered while at least one tween is running.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class FrameTicker {
+
+    /** Shared interpolators, so animations do not allocate their own */
+    public static final Interpolator ACCELERATE = new AccelerateInterpolator();
+    public static final Interpolator DECELERATE = new DecelerateInterpolator();
+    public static final Interpolator ACCELERATE_DECELERATE = new AccelerateDecelerateInterpolator();
+
+    /** Frame delay used before {@link Choreographer} is available */
+    private static final long FALLBACK_FRAME_DELAY = 16;
+
+    private static FrameTicker sInstance;
+
+    private final ArrayList<Tween> mTweens = new ArrayList<>();
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private Object mFrameCallback;
+    private boolean isFrameScheduled = false;
+
+    private final Runnable mFallbackFrame = new Runnable() {
+        @Override
+        public void run() {
+            doFrame(SystemClock.uptimeMillis());
+        }
+    };
+
+
+    private FrameTicker() {}
+
+    /**
+     * @return The ticker shared by every animation, must be used from the main thread
+     */
+    public static FrameTicker getInstance() {
+        if (sInstance == null)
+            sInstance = new FrameTicker();
+
+        return sInstance;
+    }
+
+    /**
+     * View animations and this ticker do not follow the system's animator duration scale on
+     * their own, so durations should be multiplied by this value.
+     *
+     * @param context Any context, used to read the system settings
+     * @return The system's animator duration scale, {@code 0} when animations are disabled
+     */
+    public static float getDurationScale(Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            return Settings.Global.getFloat(context.getContentResolver(),
+                    Settings.Global.ANIMATOR_DURATION_SCALE, 1.0f);
+        }
+
+        return 1.0f;
+    }
+
+    /**
+     * @return The number of tweens currently running
+     */
+    public int getRunningCount() {
+        return mTweens.size();
+    }
+
+    void add(Tween tween) {
+        if (!mTweens.contains(tween))
+            mTweens.add(tween);
+
+        scheduleFrame();
+    }
+
+    private void scheduleFrame() {
+        if (isFrameScheduled)
+            return;
+
+        isFrameScheduled = true;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN)
+            postFrameCallback();
+        else
+            mHandler.postDelayed(mFallbackFrame, FALLBACK_FRAME_DELAY);
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postFrameCallback() {
+        if (mFrameCallback == null) {
+            mFrameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    FrameTicker.this.doFrame(frameTimeNanos / 1000000);
+                }
+            };
+        }
+
+        Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback) mFrameCallback);
+    }
+
+    private void doFrame(long frameTime) {
+        isFrameScheduled = false;
+
+        // tweens started from another tween's end are appended, and run from the next frame on
+        int count = mTweens.size();
+
+        for (int i = 0; i < count; i++) {
+            Tween tween = mTweens.get(i);
+
+            if (tween.isRunning())
+                tween.doFrame(frameTime);
+        }
+
+        int kept = 0;
+
+        for (int i = 0; i < mTweens.size(); i++) {
+            Tween tween = mTweens.get(i);
+
+            if (tween.isRunning())
+                mTweens.set(kept++, tween);
+        }
+
+        while (mTweens.size() > kept)
+            mTweens.remove(mTweens.size() - 1);
+
+        if (!mTweens.isEmpty())
+            scheduleFrame();
+    }
+}
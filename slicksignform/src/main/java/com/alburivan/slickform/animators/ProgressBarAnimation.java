@@ -1,31 +0,0 @@
-package com.alburivan.slickform.animators;
-
-import android.view.animation.Animation;
-import android.view.animation.Transformation;
-import android.widget.ProgressBar;
-
-/**
- * Created by Ivan on 5/19/2016 based on http://stackoverflow.com/questions/8035682/animate-progressbar-update-in-android
- */
-public class ProgressBarAnimation extends Animation {
-
-    private ProgressBar progressBar;
-    private float from;
-    private float  to;
-
-    public ProgressBarAnimation(ProgressBar progressBar, float from, float to) {
-        super();
-        this.progressBar = progressBar;
-        this.from = from;
-        this.to = to;
-    }
-
-    @Override
-    protected void applyTransformation(float interpolatedTime, Transformation t) {
-        super.applyTransformation(interpolatedTime, t);
-        float value = from + (to - from) * interpolatedTime;
-        progressBar.setProgress((int) value);
-    }
-
-
-}
@@ -0,0 +1,104 @@
+package com.alburivan.slickform.animators;
+
+import android.view.animation.Interpolator;
+
+/**
+ * (っ･_･)っ
+ *  A single animation driven by the shared {@link FrameTicker}. Subclasses apply the
+ *  interpolated fraction in {@link #onUpdate(float)}, and may react to the end in
+ *  {@link #onEnd()}.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public abstract class Tween {
+
+    private long duration = 300;
+    private long startDelay = 0;
+    private Interpolator interpolator = FrameTicker.ACCELERATE_DECELERATE;
+    private boolean isRepeatReverse = false;
+    private boolean isRunning = false;
+    private long startTime = -1;
+
+
+    /**
+     * @param fraction The interpolated fraction of the animation
+     */
+    protected abstract void onUpdate(float fraction);
+
+    /** Called once the animation ends, it is not called when cancelled */
+    protected void onEnd() {}
+
+    public Tween setDuration(long duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public Tween setStartDelay(long startDelay) {
+        this.startDelay = startDelay;
+        return this;
+    }
+
+    public Tween setInterpolator(Interpolator interpolator) {
+        this.interpolator = interpolator;
+        return this;
+    }
+
+    /**
+     * @param state {@code true} to play the animation back and forth until cancelled
+     * @return This Tween instance
+     */
+    public Tween setRepeatReverse(boolean state) {
+        this.isRepeatReverse = state;
+        return this;
+    }
+
+    /** Starts the animation on the next frame */
+    public void start() {
+        isRunning = true;
+        startTime = -1;
+        FrameTicker.getInstance().add(this);
+    }
+
+    /** Stops the animation where it is, without calling {@link #onEnd()} */
+    public void cancel() {
+        isRunning = false;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    void doFrame(long frameTime) {
+        if (startTime < 0)
+            startTime = frameTime;
+
+        long elapsed = frameTime - startTime - startDelay;
+
+        if (elapsed < 0)
+            return;
+
+        if (duration <= 0) {
+            isRunning = false;
+            onUpdate(interpolator.getInterpolation(1.0f));
+            onEnd();
+            return;
+        }
+
+        if (isRepeatReverse) {
+            float fraction = (float) (elapsed % duration) / duration;
+            boolean isReversed = (elapsed / duration) % 2 == 1;
+
+            onUpdate(interpolator.getInterpolation(isReversed ? 1.0f - fraction : fraction));
+            return;
+        }
+
+        float fraction = Math.min(1.0f, (float) elapsed / duration);
+        onUpdate(interpolator.getInterpolation(fraction));
+
+        if (fraction >= 1.0f) {
+            isRunning = false;
+            onEnd();
+        }
+    }
+}
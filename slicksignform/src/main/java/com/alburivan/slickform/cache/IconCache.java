@@ -0,0 +1,173 @@
+package com.alburivan.slickform.cache;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.DrawableRes;
+import android.support.v4.content.ContextCompat;
+import android.util.LruCache;
+
+import java.util.Map;
+
+/**
+ * (っ･_･)っ
+ *  IconCache is a process wide cache of the decoded icons used by FormFields. Entries are keyed
+ *  by resource id and screen density and keep the drawable's constant state, so every field
+ *  showing the same icon shares a single decoded bitmap.
+ *
+ *  <p>
+ *      The cache is bounded by the bitmaps' byte size and is trimmed on its own when the system
+ *      runs low on memory.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class IconCache {
+
+    /** Default maximum size of the cache, in bytes */
+    public static final int DEFAULT_MAX_SIZE = 1024 * 1024;
+
+    private static volatile LruCache<Long, Entry> cache = newCache(DEFAULT_MAX_SIZE);
+    private static boolean isTrimCallbackRegistered = false;
+
+
+    private IconCache() {}
+
+    /**
+     * Returns a new drawable for the given icon, decoding it only if it is not cached yet for
+     * the current screen density. Must be called from the main thread.
+     *
+     * @param context The context used to load the icon
+     * @param resId Resource id of the image drawable
+     * @return A drawable sharing the cached constant state, or {@code null} if it does not exist
+     */
+    public static Drawable get(Context context, @DrawableRes int resId) {
+        if (resId == 0)
+            return null;
+
+        registerTrimCallback(context);
+
+        Resources resources = context.getResources();
+        long key = ((long) resources.getDisplayMetrics().densityDpi << 32) | (resId & 0xffffffffL);
+
+        Entry entry = cache.get(key);
+
+        if (entry == null) {
+            Drawable drawable = ContextCompat.getDrawable(context, resId);
+            Drawable.ConstantState state = drawable != null ? drawable.getConstantState() : null;
+
+            if (state == null)
+                return drawable;
+
+            entry = new Entry(state, sizeOf(drawable));
+            cache.put(key, entry);
+        }
+
+        return entry.state.newDrawable(resources);
+    }
+
+    /**
+     * Changes the maximum size of the cache, evicting the least recently used icons if needed
+     *
+     * @param maxSize The new maximum size in bytes
+     */
+    public static synchronized void setMaxSize(int maxSize) {
+        LruCache<Long, Entry> resized = newCache(maxSize);
+
+        for (Map.Entry<Long, Entry> item : cache.snapshot().entrySet())
+            resized.put(item.getKey(), item.getValue());
+
+        cache = resized;
+    }
+
+    /** Removes every icon from the cache */
+    public static void clear() {
+        cache.evictAll();
+    }
+
+    /**
+     * Releases memory according to the level given by
+     * {@link ComponentCallbacks2#onTrimMemory(int)}, it is called on your behalf once the cache
+     * was used with a context.
+     *
+     * @param level The trim memory level
+     */
+    public static void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE)
+            cache.evictAll();
+        else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND)
+            cache.trimToSize(cache.maxSize() / 2);
+    }
+
+    /** @return The number of icons that were served without decoding */
+    public static int getHitCount() {
+        return cache.hitCount();
+    }
+
+    /** @return The number of icons that had to be decoded */
+    public static int getMissCount() {
+        return cache.missCount();
+    }
+
+    /** @return The current size of the cache, in bytes */
+    public static int getSize() {
+        return cache.size();
+    }
+
+    private static LruCache<Long, Entry> newCache(int maxSize) {
+        return new LruCache<Long, Entry>(maxSize) {
+            @Override
+            protected int sizeOf(Long key, Entry value) {
+                return value.size;
+            }
+        };
+    }
+
+    private static int sizeOf(Drawable drawable) {
+        if (drawable instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+
+            if (bitmap != null)
+                return bitmap.getRowBytes() * bitmap.getHeight();
+        }
+
+        return 1;
+    }
+
+    private static synchronized void registerTrimCallback(Context context) {
+        if (isTrimCallbackRegistered)
+            return;
+
+        isTrimCallbackRegistered = true;
+        context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+            @Override
+            public void onTrimMemory(int level) {
+                IconCache.onTrimMemory(level);
+            }
+
+            @Override
+            public void onConfigurationChanged(Configuration newConfig) {}
+
+            @Override
+            public void onLowMemory() {
+                clear();
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        final Drawable.ConstantState state;
+        final int size;
+
+        Entry(Drawable.ConstantState state, int size) {
+            this.state = state;
+            this.size = size;
+        }
+    }
+}
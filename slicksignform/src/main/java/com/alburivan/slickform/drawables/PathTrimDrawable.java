@@ -0,0 +1,177 @@
+package com.alburivan.slickform.drawables;
+
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.ColorInt;
+
+/**
+ * (っ･_･)っ
+ *  PathTrimDrawable draws the outline of a closed polygon up to a given {@code percentage} of
+ *  its length, which is what the success and failure marks animate at the end of the form.
+ *
+ *  <p>
+ *      Segment lengths are computed once per bounds change, drawing only walks them and fills a
+ *      preallocated buffer, so animating the percentage does not allocate on every frame.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class PathTrimDrawable extends Drawable {
+
+    /** Size of the view box the polygons below are expressed in */
+    private static final float VIEW_BOX_SIZE = 612.0f;
+
+    /** Points of the verification mark, taken from the original ic_verification_mark.svg */
+    public static final float[] CHECK_MARK = {
+            573.75f, 0f, 183.485f, 516.968f, 37.657f, 380.702f, 0f, 422.548f,
+            189.452f, 612f, 612f, 38.843f
+    };
+
+    /** Points of the cross mark, taken from the original ic_cross_mark.svg */
+    public static final float[] CROSS_MARK = {
+            612f, 36.004f, 576.521f, 0.603f, 306f, 270.608f, 35.478f, 0.603f, 0f, 36.004f,
+            270.522f, 306.011f, 0f, 575.997f, 35.478f, 611.397f, 306f, 341.411f,
+            576.521f, 611.397f, 612f, 575.997f, 341.459f, 306.011f
+    };
+
+    private final Paint mStrokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint mFillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path mFillPath = new Path();
+    private final float[] mViewBoxPoints;
+    private final float[] mPoints;
+    private final float[] mSegmentLengths;
+    private final float[] mLines;
+    private float mTotalLength = 0.0f;
+    private float mPercentage = 0.0f;
+    private boolean mFillAfter = false;
+
+    /**
+     * @param points The polygon's points as x, y pairs in a 612 by 612 view box, such as
+     *               {@link #CHECK_MARK} or {@link #CROSS_MARK}
+     * @param color The color of the outline and of the fill
+     * @param strokeWidth The outline's width in pixels
+     */
+    public PathTrimDrawable(float[] points, @ColorInt int color, float strokeWidth) {
+        int pointCount = points.length / 2;
+
+        this.mViewBoxPoints = points;
+        this.mPoints = new float[points.length];
+        this.mSegmentLengths = new float[pointCount];
+        this.mLines = new float[pointCount * 4];
+
+        this.mStrokePaint.setColor(color);
+        this.mStrokePaint.setStyle(Paint.Style.STROKE);
+        this.mStrokePaint.setStrokeWidth(strokeWidth);
+        this.mStrokePaint.setStrokeCap(Paint.Cap.ROUND);
+        this.mFillPaint.setColor(color);
+        this.mFillPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * @param percentage How much of the outline is drawn, from 0 to 1
+     */
+    public void setPercentage(float percentage) {
+        percentage = Math.max(0.0f, Math.min(1.0f, percentage));
+
+        if (percentage != mPercentage) {
+            mPercentage = percentage;
+            invalidateSelf();
+        }
+    }
+
+    public float getPercentage() {
+        return mPercentage;
+    }
+
+    /**
+     * @param fillAfter {@code true} to fill the polygon once its whole outline is drawn
+     */
+    public void setFillAfter(boolean fillAfter) {
+        this.mFillAfter = fillAfter;
+        invalidateSelf();
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        super.onBoundsChange(bounds);
+
+        float scale = Math.min(bounds.width(), bounds.height()) / VIEW_BOX_SIZE;
+        float left = bounds.exactCenterX() - VIEW_BOX_SIZE * scale / 2;
+        float top = bounds.exactCenterY() - VIEW_BOX_SIZE * scale / 2;
+
+        for (int i = 0; i < mPoints.length; i += 2) {
+            mPoints[i] = left + mViewBoxPoints[i] * scale;
+            mPoints[i + 1] = top + mViewBoxPoints[i + 1] * scale;
+        }
+
+        mFillPath.rewind();
+        mTotalLength = 0.0f;
+
+        for (int i = 0; i < mSegmentLengths.length; i++) {
+            int from = i * 2;
+            int to = (from + 2) % mPoints.length;
+
+            mSegmentLengths[i] = (float) Math.hypot(mPoints[to] - mPoints[from], mPoints[to + 1] - mPoints[from + 1]);
+            mTotalLength += mSegmentLengths[i];
+
+            if (i == 0)
+                mFillPath.moveTo(mPoints[from], mPoints[from + 1]);
+            else
+                mFillPath.lineTo(mPoints[from], mPoints[from + 1]);
+        }
+
+        mFillPath.close();
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+        if (mFillAfter && mPercentage >= 1.0f) {
+            canvas.drawPath(mFillPath, mFillPaint);
+            return;
+        }
+
+        float remaining = mTotalLength * mPercentage;
+        int count = 0;
+
+        for (int i = 0; i < mSegmentLengths.length && remaining > 0; i++) {
+            int from = i * 2;
+            int to = (from + 2) % mPoints.length;
+            float fraction = Math.min(1.0f, remaining / mSegmentLengths[i]);
+
+            mLines[count++] = mPoints[from];
+            mLines[count++] = mPoints[from + 1];
+            mLines[count++] = mPoints[from] + (mPoints[to] - mPoints[from]) * fraction;
+            mLines[count++] = mPoints[from + 1] + (mPoints[to + 1] - mPoints[from + 1]) * fraction;
+
+            remaining -= mSegmentLengths[i];
+        }
+
+        if (count > 0)
+            canvas.drawLines(mLines, 0, count, mStrokePaint);
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        mStrokePaint.setAlpha(alpha);
+        mFillPaint.setAlpha(alpha);
+        invalidateSelf();
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter) {
+        mStrokePaint.setColorFilter(colorFilter);
+        mFillPaint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
@@ -0,0 +1,118 @@
+package com.alburivan.slickform.drawables;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.ColorInt;
+
+/**
+ * (っ･_･)っ
+ *  ProgressDrawable draws either a linear progress bar or a circular ring, driven by a single
+ *  {@code progress} float property from 0 to 1. Changing it only invalidates the drawable, so
+ *  animating it never goes through a layout pass nor through drawable level changes.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class ProgressDrawable extends Drawable {
+
+    public static final int LINEAR = 0, RING = 1;
+
+    /** Same ratio as the {@code innerRadiusRatio} of the original ring shape */
+    private static final float RING_INNER_RADIUS_RATIO = 2.3f;
+
+    private final Paint mTrackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint mProgressPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF mRect = new RectF();
+    private final int mStyle;
+    private float mProgress = 0.0f;
+
+    /**
+     * @param style Either {@link #LINEAR} or {@link #RING}
+     * @param trackColor The color behind the progress, may be transparent
+     * @param progressColor The color of the progress itself
+     * @param thickness The ring's thickness in pixels, ignored by {@link #LINEAR}
+     */
+    public ProgressDrawable(int style, @ColorInt int trackColor, @ColorInt int progressColor, float thickness) {
+        this.mStyle = style;
+
+        this.mTrackPaint.setColor(trackColor);
+        this.mProgressPaint.setColor(progressColor);
+
+        if (style == RING) {
+            this.mTrackPaint.setStyle(Paint.Style.STROKE);
+            this.mTrackPaint.setStrokeWidth(thickness);
+            this.mProgressPaint.setStyle(Paint.Style.STROKE);
+            this.mProgressPaint.setStrokeWidth(thickness);
+        }
+    }
+
+    /**
+     * @param progress The progress to be drawn, from 0 to 1
+     */
+    public void setProgress(float progress) {
+        progress = Math.max(0.0f, Math.min(1.0f, progress));
+
+        if (progress != mProgress) {
+            mProgress = progress;
+            invalidateSelf();
+        }
+    }
+
+    public float getProgress() {
+        return mProgress;
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        super.onBoundsChange(bounds);
+
+        if (mStyle == RING) {
+            float size = Math.min(bounds.width(), bounds.height());
+            // same as GradientDrawable, whose inner radius is the width over the ratio
+            float radius = size / RING_INNER_RADIUS_RATIO + mProgressPaint.getStrokeWidth() / 2;
+
+            mRect.set(bounds.exactCenterX() - radius, bounds.exactCenterY() - radius,
+                    bounds.exactCenterX() + radius, bounds.exactCenterY() + radius);
+        } else {
+            mRect.set(bounds);
+        }
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+        if (mStyle == RING) {
+            if (Color.alpha(mTrackPaint.getColor()) != 0)
+                canvas.drawOval(mRect, mTrackPaint);
+
+            canvas.drawArc(mRect, -90, 360 * mProgress, false, mProgressPaint);
+        } else {
+            canvas.drawRect(mRect, mTrackPaint);
+            canvas.drawRect(mRect.left, mRect.top, mRect.left + mRect.width() * mProgress, mRect.bottom, mProgressPaint);
+        }
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        mTrackPaint.setAlpha(alpha);
+        mProgressPaint.setAlpha(alpha);
+        invalidateSelf();
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter) {
+        mTrackPaint.setColorFilter(colorFilter);
+        mProgressPaint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+}
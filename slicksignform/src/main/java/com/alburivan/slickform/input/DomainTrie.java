@@ -0,0 +1,357 @@
+package com.alburivan.slickform.input;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * (っ･_･)っ
+ *  DomainTrie holds the email domains offered while typing an email, ranked by how often they
+ *  are used. Every node of the prefix trie keeps the most used domain below it, so the best
+ *  completion of what was typed is found in a single walk of its characters, and the domains'
+ *  Strings are built once, so lookups allocate nothing.
+ *
+ *  <p>
+ *      The list used by default can be replaced at runtime, for example with one downloaded
+ *      from a server, see {@link #setDefault(DomainTrie)}. A DomainTrie is immutable and can be
+ *      used from any thread.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class DomainTrie {
+
+    private static final int ROOT = 0;
+
+    private static volatile DomainTrie defaultTrie;
+
+    private final String[] domains;
+    private final int[] frequencies;
+    private final char[] keys;
+    private final int[] firstChildren;
+    private final int[] nextSiblings;
+    private final int[] bestDomains;
+    private final int[] terminalDomains;
+
+
+    private DomainTrie(String[] domains, int[] frequencies) {
+        int capacity = 1;
+
+        for (String domain : domains)
+            capacity += domain.length();
+
+        char[] keys = new char[capacity];
+        int[] firstChildren = new int[capacity];
+        int[] nextSiblings = new int[capacity];
+        int[] bestDomains = new int[capacity];
+        int[] terminalDomains = new int[capacity];
+        int nodeCount = 1;
+
+        Arrays.fill(firstChildren, -1);
+        Arrays.fill(nextSiblings, -1);
+        Arrays.fill(bestDomains, -1);
+        Arrays.fill(terminalDomains, -1);
+
+        // domains come sorted by frequency, so the first one reaching a node is its best
+        for (int index = 0; index < domains.length; index++) {
+            String domain = domains[index];
+            int node = ROOT;
+
+            for (int i = 0; i < domain.length(); i++) {
+                char c = domain.charAt(i);
+                int child = firstChildren[node];
+
+                while (child >= 0 && keys[child] != c)
+                    child = nextSiblings[child];
+
+                if (child < 0) {
+                    child = nodeCount++;
+                    keys[child] = c;
+                    nextSiblings[child] = firstChildren[node];
+                    firstChildren[node] = child;
+                }
+
+                if (bestDomains[child] < 0)
+                    bestDomains[child] = index;
+
+                node = child;
+            }
+
+            terminalDomains[node] = index;
+        }
+
+        this.domains         = domains;
+        this.frequencies     = frequencies;
+        this.keys            = Arrays.copyOf(keys, nodeCount);
+        this.firstChildren   = Arrays.copyOf(firstChildren, nodeCount);
+        this.nextSiblings    = Arrays.copyOf(nextSiblings, nodeCount);
+        this.bestDomains     = Arrays.copyOf(bestDomains, nodeCount);
+        this.terminalDomains = Arrays.copyOf(terminalDomains, nodeCount);
+    }
+
+    /**
+     * @param rankedDomains The domains, from the most to the least used
+     * @return The trie
+     */
+    public static DomainTrie of(String... rankedDomains) {
+        String[] domains = new String[rankedDomains.length];
+        int[] frequencies = new int[rankedDomains.length];
+
+        for (int i = 0; i < rankedDomains.length; i++) {
+            domains[i] = rankedDomains[i];
+            frequencies[i] = rankedDomains.length - i;
+        }
+
+        return build(domains, frequencies);
+    }
+
+    /**
+     * Reads a domain list with one domain per line, optionally followed by a comma or a space
+     * and how often it is used. Domains without a count keep the file's order.
+     *
+     * @param reader The list, it is closed once read
+     * @return The trie
+     * @throws IOException If the list can't be read or a count is not a number
+     */
+    public static DomainTrie fromReader(Reader reader) throws IOException {
+        List<String> domains = new ArrayList<>();
+        List<Integer> frequencies = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+
+        try {
+            String line;
+
+            while ((line = lines.readLine()) != null) {
+                line = line.trim();
+
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                int separator = line.indexOf(',');
+
+                if (separator < 0)
+                    separator = line.indexOf(' ');
+
+                try {
+                    domains.add(separator < 0 ? line : line.substring(0, separator).trim());
+                    frequencies.add(separator < 0 ? -domains.size() : Integer.parseInt(line.substring(separator + 1).trim()));
+                }
+                catch (NumberFormatException e) {
+                    throw new IOException("Invalid count: " + line);
+                }
+            }
+        }
+        finally {
+            lines.close();
+        }
+
+        String[] domainArray = domains.toArray(new String[domains.size()]);
+        int[] frequencyArray = new int[frequencies.size()];
+
+        for (int i = 0; i < frequencyArray.length; i++)
+            frequencyArray[i] = frequencies.get(i);
+
+        return build(domainArray, frequencyArray);
+    }
+
+    /**
+     * @param file A domain list, see {@link #fromReader(Reader)}
+     * @return The trie
+     * @throws IOException If the list can't be read
+     */
+    public static DomainTrie fromFile(File file) throws IOException {
+        return fromReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+    }
+
+    /**
+     * @return The list used by fields that don't have their own, a built-in list of common
+     *         providers unless it was replaced
+     */
+    public static DomainTrie getDefault() {
+        DomainTrie trie = defaultTrie;
+
+        if (trie == null) {
+            trie = of("gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "icloud.com",
+                    "aol.com", "live.com", "msn.com", "hotmail.co.uk", "yahoo.co.uk", "me.com",
+                    "protonmail.com", "proton.me", "mail.com", "gmx.com", "gmx.de", "web.de",
+                    "yandex.ru", "mail.ru", "qq.com", "163.com", "comcast.net", "att.net",
+                    "verizon.net", "zoho.com", "yahoo.es", "hotmail.es", "outlook.es",
+                    "hotmail.fr", "orange.fr", "libero.it", "yahoo.com.br", "uol.com.br",
+                    "bol.com.br", "googlemail.com", "ymail.com", "rocketmail.com", "fastmail.com");
+            defaultTrie = trie;
+        }
+
+        return trie;
+    }
+
+    /**
+     * Replaces the list used by fields that don't have their own, effective from their next
+     * keystroke.
+     *
+     * @param trie The new list, or {@code null} to go back to the built-in one
+     */
+    public static void setDefault(DomainTrie trie) {
+        defaultTrie = trie;
+    }
+
+    /**
+     * @param text The text holding what was typed of the domain
+     * @param start The index where the domain starts
+     * @param end The index after the last character typed
+     * @return The index of the most used domain starting with what was typed, ignoring case, or
+     *         {@code -1} if there is none
+     */
+    public int complete(CharSequence text, int start, int end) {
+        if (start >= end)
+            return -1;
+
+        int node = ROOT;
+
+        for (int i = start; i < end && node >= 0; i++)
+            node = child(node, toLowerAscii(text.charAt(i)));
+
+        return node < 0 ? -1 : bestDomains[node];
+    }
+
+    /**
+     * Looks for a likely typo, such as "gmial.com" or "gmail.con", a domain one insertion,
+     * deletion, substitution or swap of two neighbour characters away.
+     *
+     * @param text The text holding the domain
+     * @param start The index where the domain starts
+     * @param end The index after the domain's last character
+     * @return The index of the most used domain the typed one is likely a typo of, or
+     *         {@code -1} if the domain is known or no domain is close enough
+     */
+    public int correct(CharSequence text, int start, int end) {
+        if (start >= end || isKnown(text, start, end))
+            return -1;
+
+        // domains are sorted by frequency, so the first close one is the best
+        for (int index = 0; index < domains.length; index++) {
+            if (isOneEditAway(text, start, end, domains[index]))
+                return index;
+        }
+
+        return -1;
+    }
+
+    public String get(int index) {
+        return domains[index];
+    }
+
+    public int getFrequency(int index) {
+        return frequencies[index];
+    }
+
+    public int size() {
+        return domains.length;
+    }
+
+    private static DomainTrie build(String[] domains, final int[] frequencies) {
+        Integer[] order = new Integer[domains.length];
+
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+
+        // stable, so equal counts keep the list's order
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return frequencies[b] < frequencies[a] ? -1 : (frequencies[b] == frequencies[a] ? 0 : 1);
+            }
+        });
+
+        List<String> sortedDomains = new ArrayList<>(domains.length);
+        List<Integer> sortedFrequencies = new ArrayList<>(domains.length);
+
+        for (Integer index : order) {
+            String domain = domains[index].trim().toLowerCase(Locale.US);
+
+            if (!domain.isEmpty() && !sortedDomains.contains(domain)) {
+                sortedDomains.add(domain);
+                sortedFrequencies.add(frequencies[index]);
+            }
+        }
+
+        int[] frequencyArray = new int[sortedFrequencies.size()];
+
+        for (int i = 0; i < frequencyArray.length; i++)
+            frequencyArray[i] = sortedFrequencies.get(i);
+
+        return new DomainTrie(sortedDomains.toArray(new String[sortedDomains.size()]), frequencyArray);
+    }
+
+    private boolean isKnown(CharSequence text, int start, int end) {
+        int node = ROOT;
+
+        for (int i = start; i < end && node >= 0; i++)
+            node = child(node, toLowerAscii(text.charAt(i)));
+
+        return node >= 0 && terminalDomains[node] >= 0;
+    }
+
+    private static boolean isOneEditAway(CharSequence text, int start, int end, String domain) {
+        int typedLength = end - start;
+        int length = domain.length();
+
+        if (Math.abs(typedLength - length) > 1)
+            return false;
+
+        int i = 0;
+
+        while (i < typedLength && i < length && toLowerAscii(text.charAt(start + i)) == domain.charAt(i))
+            i++;
+
+        if (i == typedLength && i == length)
+            return false;
+
+        if (typedLength == length) {
+            // a substitution, or two neighbour characters swapped
+            return regionEquals(text, start, i + 1, end, domain, i + 1)
+                    || (i + 1 < length
+                        && toLowerAscii(text.charAt(start + i)) == domain.charAt(i + 1)
+                        && toLowerAscii(text.charAt(start + i + 1)) == domain.charAt(i)
+                        && regionEquals(text, start, i + 2, end, domain, i + 2));
+        }
+
+        // an extra or a missing character
+        return typedLength > length
+                ? regionEquals(text, start, i + 1, end, domain, i)
+                : regionEquals(text, start, i, end, domain, i + 1);
+    }
+
+    private static boolean regionEquals(CharSequence text, int start, int from, int end, String domain, int domainFrom) {
+        if (end - start - from != domain.length() - domainFrom)
+            return false;
+
+        for (int i = 0; start + from + i < end; i++) {
+            if (toLowerAscii(text.charAt(start + from + i)) != domain.charAt(domainFrom + i))
+                return false;
+        }
+
+        return true;
+    }
+
+    private int child(int node, char c) {
+        int child = firstChildren[node];
+
+        while (child >= 0 && keys[child] != c)
+            child = nextSiblings[child];
+
+        return child;
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
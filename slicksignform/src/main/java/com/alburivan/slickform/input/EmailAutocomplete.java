@@ -0,0 +1,153 @@
+package com.alburivan.slickform.input;
+
+import android.text.Editable;
+import android.text.Selection;
+import android.text.TextWatcher;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.widget.EditText;
+
+import com.alburivan.slickform.R;
+
+/**
+ * (っ･_･)っ
+ *  EmailAutocomplete completes the domain of an email inline while it is typed: after the '@',
+ *  typing "gm" appends a selected "ail.com", which the next keystroke replaces or confirms.
+ *  Optionally, once the input loses focus, a domain that looks like a typo of a known one is
+ *  pointed out in the input's error.
+ *
+ *  <p>
+ *      The Editable is edited in place and the lookups allocate nothing, so a keystroke only
+ *      costs a walk of the typed domain through the {@link DomainTrie}.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class EmailAutocomplete implements TextWatcher, ViewTreeObserver.OnGlobalFocusChangeListener,
+        View.OnAttachStateChangeListener {
+
+    private final EditText input;
+    private final DomainTrie domains;
+    private final boolean isTypoCorrectionEnabled;
+    private boolean isTyping = false;
+    private boolean isCompleting = false;
+
+
+    /**
+     * @param input The email input
+     * @param domains The domains offered, or {@code null} to follow {@link DomainTrie#getDefault()}
+     * @param isTypoCorrectionEnabled {@code true} to point out likely typos in the domain
+     */
+    public EmailAutocomplete(EditText input, DomainTrie domains, boolean isTypoCorrectionEnabled) {
+        this.input = input;
+        this.domains = domains;
+        this.isTypoCorrectionEnabled = isTypoCorrectionEnabled;
+    }
+
+    /**
+     * Starts completing the input's domain.
+     *
+     * @return This EmailAutocomplete instance
+     */
+    public EmailAutocomplete attach() {
+        input.addTextChangedListener(this);
+
+        // the tree's focus changes are followed, so the input's own focus listener is left to the app
+        if (isTypoCorrectionEnabled) {
+            input.addOnAttachStateChangeListener(this);
+
+            if (input.getWindowToken() != null)
+                onViewAttachedToWindow(input);
+        }
+
+        return this;
+    }
+
+    @Override
+    public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+    @Override
+    public void onTextChanged(CharSequence s, int start, int before, int count) {
+        // only characters typed at the end are completed, never deletions nor our own edits. A
+        // key typed over the selected completion replaces it, so it may remove more than it adds
+        isTyping = !isCompleting && count > 0 && start + count == s.length();
+    }
+
+    @Override
+    public void afterTextChanged(Editable s) {
+        if (!isTyping)
+            return;
+
+        isTyping = false;
+
+        int end = s.length();
+
+        if (Selection.getSelectionEnd(s) != end)
+            return;
+
+        int at = lastIndexOfAt(s, end);
+
+        if (at < 0)
+            return;
+
+        DomainTrie trie = getDomains();
+        int index = trie.complete(s, at + 1, end);
+
+        if (index < 0)
+            return;
+
+        String domain = trie.get(index);
+        int typed = end - at - 1;
+
+        if (domain.length() <= typed)
+            return;
+
+        isCompleting = true;
+        s.append(domain, typed, domain.length());
+        Selection.setSelection(s, end, s.length());
+        isCompleting = false;
+    }
+
+    @Override
+    public void onViewAttachedToWindow(View v) {
+        input.getViewTreeObserver().addOnGlobalFocusChangeListener(this);
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(View v) {
+        input.getViewTreeObserver().removeOnGlobalFocusChangeListener(this);
+    }
+
+    @Override
+    public void onGlobalFocusChanged(View oldFocus, View newFocus) {
+        if (oldFocus != input || newFocus == input)
+            return;
+
+        Editable text = input.getText();
+        int end = text.length();
+        int at = lastIndexOfAt(text, end);
+
+        if (at < 0)
+            return;
+
+        DomainTrie trie = getDomains();
+        int index = trie.correct(text, at + 1, end);
+
+        if (index >= 0)
+            input.setError(input.getContext().getString(R.string.form_field_did_you_mean, trie.get(index)));
+    }
+
+    private DomainTrie getDomains() {
+        return domains != null ? domains : DomainTrie.getDefault();
+    }
+
+    private static int lastIndexOfAt(CharSequence text, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (text.charAt(i) == '@')
+                return i;
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.alburivan.slickform.input;
+
+/**
+ * (っ･_･)っ
+ *  InputMask describes the shape of a formatted input, such as {@code "(###) ###-####"}. A
+ *  {@code '#'} takes a digit, an {@code 'A'} a letter and a {@code '*'} either of them, any other
+ *  character is a literal the user doesn't type. A literal {@code '#'}, {@code 'A'} or
+ *  {@code '*'} is written with a {@code '\\'} before it.
+ *
+ *  <p>
+ *      Every position of the mask is compiled once, so checking a character or mapping a raw
+ *      index to its position in the formatted text is a single array read. An InputMask is
+ *      immutable and can be shared by any number of fields.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class InputMask {
+
+    public static final char DIGIT             = '#';
+    public static final char LETTER            = 'A';
+    public static final char LETTER_OR_DIGIT   = '*';
+    public static final char ESCAPE            = '\\';
+
+    public static final InputMask PHONE        = new InputMask("(###) ###-####");
+    public static final InputMask CARD_NUMBER  = new InputMask("#### #### #### ####");
+    public static final InputMask CARD_EXPIRY  = new InputMask("##/##");
+    public static final InputMask DATE         = new InputMask("##/##/####");
+
+    private static final char LITERAL = 0;
+
+    private final String mask;
+    private final char[] kinds;
+    private final char[] literals;
+    private final String[] literalTexts;
+    private final int[] slotPositions;
+    private final int[] slotCounts;
+
+
+    /**
+     * @param mask The mask, such as {@code "##/##/####"}
+     * @throws IllegalArgumentException If the mask has nothing to type in
+     */
+    public InputMask(String mask) {
+        int length = 0;
+        int slotCount = 0;
+
+        for (int i = 0; i < mask.length(); i++, length++) {
+            char c = mask.charAt(i);
+
+            if (c == ESCAPE && i + 1 < mask.length())
+                i++;
+            else if (isSlotChar(c))
+                slotCount++;
+        }
+
+        if (slotCount == 0)
+            throw new IllegalArgumentException("The mask " + mask + " has nothing to type in");
+
+        this.mask          = mask;
+        this.kinds         = new char[length];
+        this.literals      = new char[length];
+        this.literalTexts  = new String[length];
+        this.slotPositions = new int[slotCount];
+        this.slotCounts    = new int[length + 1];
+
+        int slot = 0;
+
+        for (int i = 0, position = 0; i < mask.length(); i++, position++) {
+            char c = mask.charAt(i);
+            slotCounts[position] = slot;
+
+            if (c == ESCAPE && i + 1 < mask.length()) {
+                c = mask.charAt(++i);
+            } else if (isSlotChar(c)) {
+                kinds[position] = c;
+                slotPositions[slot++] = position;
+                continue;
+            }
+
+            kinds[position] = LITERAL;
+            literals[position] = c;
+            literalTexts[position] = String.valueOf(c);
+        }
+
+        slotCounts[length] = slot;
+    }
+
+    /**
+     * Builds the mask of a {@link com.alburivan.slickform.validators.DateTimeParser} pattern,
+     * every pattern letter being a digit. The pattern must use fixed widths, such as
+     * {@code "dd/MM/yyyy HH:mm"}.
+     *
+     * @param pattern The date pattern
+     * @return The mask for dates written in that pattern
+     */
+    public static InputMask forDatePattern(String pattern) {
+        StringBuilder mask = new StringBuilder(pattern.length() * 2);
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+
+            if ("yMdHms".indexOf(c) >= 0)
+                mask.append(DIGIT);
+            else if (isSlotChar(c) || c == ESCAPE)
+                mask.append(ESCAPE).append(c);
+            else
+                mask.append(c);
+        }
+
+        return new InputMask(mask.toString());
+    }
+
+    /**
+     * @return The number of characters of a complete formatted text
+     */
+    public int length() {
+        return kinds.length;
+    }
+
+    /**
+     * @return The number of characters the user types for a complete text
+     */
+    public int getSlotCount() {
+        return slotPositions.length;
+    }
+
+    /**
+     * @return {@code true} if the user types the character at the given position
+     */
+    public boolean isSlot(int position) {
+        return kinds[position] != LITERAL;
+    }
+
+    /**
+     * @return {@code true} if the character can be typed at the given position
+     */
+    public boolean accepts(int position, char c) {
+        switch (kinds[position]) {
+            case DIGIT:           return c >= '0' && c <= '9';
+            case LETTER:          return Character.isLetter(c);
+            case LETTER_OR_DIGIT: return Character.isLetterOrDigit(c);
+            default:              return false;
+        }
+    }
+
+    /**
+     * @return The literal at the given position, or {@code 0} if the user types it
+     */
+    public char getLiteral(int position) {
+        return literals[position];
+    }
+
+    /**
+     * @return The literal at the given position as text, built once so it can be inserted
+     *         without allocating, or {@code null} if the user types it
+     */
+    public CharSequence getLiteralText(int position) {
+        return literalTexts[position];
+    }
+
+    /**
+     * @param slot The index of a typed character in the raw value
+     * @return Its position in the formatted text
+     */
+    public int getSlotPosition(int slot) {
+        return slotPositions[slot];
+    }
+
+    /**
+     * @param textLength The length of a formatted text
+     * @return The number of typed characters it holds
+     */
+    public int getSlotCount(int textLength) {
+        return slotCounts[Math.min(textLength, kinds.length)];
+    }
+
+    @Override
+    public String toString() {
+        return mask;
+    }
+
+    private static boolean isSlotChar(char c) {
+        return c == DIGIT || c == LETTER || c == LETTER_OR_DIGIT;
+    }
+}
@@ -0,0 +1,201 @@
+package com.alburivan.slickform.input;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.widget.EditText;
+
+/**
+ * (っ･_･)っ
+ *  MaskFormatter keeps an input formatted with an {@link InputMask} while it is typed. The
+ *  Editable is edited in place, one character at a time, so the cursor and any span stay where
+ *  the user left them, and only the part of the text a change could have moved is looked at:
+ *  typing or deleting at the end costs the same whatever the text's length.
+ *
+ *  <p>
+ *      Characters that don't fit their position are dropped, the literals are inserted as the
+ *      user reaches them and removed along with the last character before them, and deleting a
+ *      literal also deletes the character typed before it, so backspace never gets stuck.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class MaskFormatter implements TextWatcher {
+
+    private final EditText input;
+    private final InputMask mask;
+    private boolean isFormatting = false;
+    private int lengthBefore;
+    private int changeStart;
+    private int changeEnd;
+    private boolean isInsertion;
+    private int deleteFrom = -1;
+
+
+    /**
+     * @param input The input to format
+     * @param mask The mask to format it with
+     */
+    public MaskFormatter(EditText input, InputMask mask) {
+        this.input = input;
+        this.mask = mask;
+    }
+
+    /**
+     * Formats the input's current text and keeps formatting it as it changes.
+     *
+     * @return This MaskFormatter instance
+     */
+    public MaskFormatter attach() {
+        input.addTextChangedListener(this);
+
+        Editable text = input.getText();
+
+        // nothing is known to be formatted yet
+        lengthBefore = -1;
+        isInsertion = false;
+        deleteFrom = -1;
+        format(text, 0, text.length());
+
+        return this;
+    }
+
+    /**
+     * Stops formatting the input, its text is left as it is.
+     */
+    public void detach() {
+        input.removeTextChangedListener(this);
+    }
+
+    public InputMask getMask() {
+        return mask;
+    }
+
+    @Override
+    public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+        if (isFormatting)
+            return;
+
+        lengthBefore = s.length();
+        deleteFrom = -1;
+
+        if (after != 0 || count == 0 || start + count > mask.length())
+            return;
+
+        for (int i = start; i < start + count; i++) {
+            if (mask.isSlot(i))
+                return;
+        }
+
+        // only literals are deleted, take the character typed before them too
+        for (int i = start - 1; i >= 0; i--) {
+            if (mask.isSlot(i)) {
+                deleteFrom = i;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onTextChanged(CharSequence s, int start, int before, int count) {
+        if (isFormatting)
+            return;
+
+        changeStart = start;
+        changeEnd = start + count;
+        isInsertion = count > before;
+    }
+
+    @Override
+    public void afterTextChanged(Editable s) {
+        if (isFormatting)
+            return;
+
+        if (deleteFrom >= 0) {
+            int from = deleteFrom;
+
+            deleteFrom = -1;
+            isFormatting = true;
+
+            try {
+                s.delete(from, changeStart);
+            } finally {
+                isFormatting = false;
+            }
+
+            changeStart = from;
+            changeEnd = from;
+        }
+
+        format(s, changeStart, changeEnd);
+    }
+
+    /**
+     * Formats the text from {@code start} on. The text before it is already formatted, so a
+     * position in the text is also a position in the mask.
+     *
+     * @param end Where the changed characters end, once the text after it is back at its old
+     *            place it is formatted already
+     */
+    private void format(Editable s, int start, int end) {
+        isFormatting = true;
+
+        try {
+            int position = start;
+
+            while (position < s.length()) {
+                if (position >= mask.length()) {
+                    s.delete(position, s.length());
+                    break;
+                }
+
+                if (position >= end && s.length() == lengthBefore)
+                    break;
+
+                char c = s.charAt(position);
+
+                if (mask.isSlot(position)) {
+                    if (mask.accepts(position, c)) {
+                        position++;
+                    } else {
+                        s.delete(position, position + 1);
+
+                        if (position < end)
+                            end--;
+                    }
+                } else {
+                    if (c != mask.getLiteral(position)) {
+                        s.insert(position, mask.getLiteralText(position));
+
+                        if (position < end)
+                            end++;
+                    }
+
+                    position++;
+                }
+            }
+
+            if (position < s.length() || position == 0)
+                return;
+
+            // the literals right after the last typed character are added as the user gets there,
+            // and dropped once it is deleted
+            if (isInsertion) {
+                if (end >= position) {
+                    while (position < mask.length() && !mask.isSlot(position))
+                        s.append(mask.getLiteralText(position++));
+                }
+            } else {
+                int last = position;
+
+                while (last > 0 && !mask.isSlot(last - 1))
+                    last--;
+
+                if (last < position)
+                    s.delete(last, position);
+            }
+        } finally {
+            isFormatting = false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.alburivan.slickform.input;
+
+/**
+ * (っ･_･)っ
+ *  UnmaskedText is a live view of the characters the user typed in a formatted text, without
+ *  the mask's literals: "(555) 123-4567" reads as "5551234567". Nothing is copied, every
+ *  character is read straight from the formatted text through {@link InputMask}'s positions,
+ *  so the view follows the text as it changes.
+ *
+ *  <p>
+ *      The text must be kept formatted by a {@link MaskFormatter} with the same mask.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class UnmaskedText implements CharSequence {
+
+    private final CharSequence text;
+    private final InputMask mask;
+    private final int start;
+    private final int end;
+
+
+    /**
+     * @param text The formatted text
+     * @param mask The mask the text is formatted with
+     */
+    public UnmaskedText(CharSequence text, InputMask mask) {
+        this(text, mask, 0, -1);
+    }
+
+    /**
+     * @param end The raw index where the view ends, or {@code -1} to follow the text's length
+     */
+    private UnmaskedText(CharSequence text, InputMask mask, int start, int end) {
+        this.text = text;
+        this.mask = mask;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return The formatted text this view reads from
+     */
+    public CharSequence getText() {
+        return text;
+    }
+
+    @Override
+    public int length() {
+        return (end < 0 ? mask.getSlotCount(text.length()) : end) - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length())
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+
+        return text.charAt(mask.getSlotPosition(start + index));
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end)
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+
+        return new UnmaskedText(text, mask, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        int length = length();
+        char[] chars = new char[length];
+
+        for (int i = 0; i < length; i++)
+            chars[i] = text.charAt(mask.getSlotPosition(start + i));
+
+        return new String(chars);
+    }
+}
@@ -0,0 +1,20 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+import java.util.List;
+
+/**
+ * A rule that spans several FormFields, such as "confirm password" or "the email must not
+ * contain the username", added with
+ * {@link com.alburivan.slickform.SlickForm#withCrossFieldRule(ICrossFieldRule, FormField...)}.
+ * It only runs again when one of the fields it depends on changed.
+ */
+public interface ICrossFieldRule {
+
+    /**
+     * @param fields The fields this rule depends on, in the order they were given
+     * @return {@code true} if the fields pass this rule
+     */
+    boolean validate(List<FormField> fields);
+}
@@ -0,0 +1,18 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+import java.util.List;
+
+/**
+ * Receives the outcome of {@link com.alburivan.slickform.SlickForm#validateAll(IOnFormValidation)},
+ * on the main thread.
+ */
+public interface IOnFormValidation {
+
+    /**
+     * @param invalidFields The fields that did not pass, in the form's order, empty if the whole
+     *                      form is valid
+     */
+    void validationFinished(List<FormField> invalidFields);
+}
@@ -0,0 +1,22 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+import java.util.List;
+
+/**
+ * A {@link IOnProcessChange} that reports real progress while doing its background work. When a
+ * listener implements this interface the form calls
+ * {@link #workInBackground(List, IProgressReporter)} instead of
+ * {@link IOnProcessChange#workInBackground(List)}.
+ */
+public interface IOnProcessProgressChange extends IOnProcessChange {
+
+    /**
+     * This method handles the work to be done in the background and to be implemented by the developer
+     * @param param The collection of fields used in this form
+     * @param reporter Used to publish the progress of the work, from 0 to 100
+     */
+    boolean workInBackground(List<FormField> param, IProgressReporter reporter);
+
+}
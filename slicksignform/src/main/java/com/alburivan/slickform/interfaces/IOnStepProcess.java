@@ -0,0 +1,22 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+/**
+ * Handles the work to be done in the background as soon as each step of the form validates, for
+ * example to pre-check or pre-upload that step's data so the final submit only needs to commit.
+ */
+public interface IOnStepProcess {
+
+    /**
+     * This method is called off the main thread once the given field validates. Steps are
+     * processed in order and all of them complete before
+     * {@link IOnProcessChange#workInBackground} is called.
+     *
+     * @param field The field that was just validated
+     * @param position The field's position in the form
+     * @return A result to be kept in the field, available later through
+     *         {@link FormField#getStepResult()}
+     */
+    Object processStepInBackground(FormField field, int position);
+}
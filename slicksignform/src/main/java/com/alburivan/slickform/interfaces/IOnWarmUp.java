@@ -0,0 +1,25 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+import java.util.List;
+
+/**
+ * Signals that the user is likely to submit the form soon, giving the developer the chance to
+ * pre-warm connections, caches or crypto before the final submission.
+ */
+public interface IOnWarmUp {
+
+    /**
+     * This method is called off the main thread once the user reaches the configured step
+     * @param param The collection of fields used in this form
+     */
+    void warmUpInBackground(List<FormField> param);
+
+    /**
+     * This method is called on the main thread if the user abandons the form before it is
+     * submitted. The thread running {@link #warmUpInBackground} is interrupted as well.
+     */
+    void warmUpCancelled();
+
+}
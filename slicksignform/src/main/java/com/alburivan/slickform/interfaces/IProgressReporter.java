@@ -0,0 +1,14 @@
+package com.alburivan.slickform.interfaces;
+
+/**
+ * Handed to {@link IOnProcessProgressChange#workInBackground} so the background work can tell the
+ * form how far along it is. It is safe to call from any thread and as often as needed, updates
+ * are coalesced and throttled before they reach the progress bar.
+ */
+public interface IProgressReporter {
+
+    /**
+     * @param percent The current progress of the background work, from 0 to 100
+     */
+    void report(int percent);
+}
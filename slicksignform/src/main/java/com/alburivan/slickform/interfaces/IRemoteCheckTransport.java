@@ -0,0 +1,18 @@
+package com.alburivan.slickform.interfaces;
+
+/**
+ * Asks a server whether a value, such as a username or an email, can be used. It is what
+ * {@link com.alburivan.slickform.validators.RemoteCheckValidator} calls for every check that is
+ * not answered by its cache, so it can be replaced by a local stub in tests.
+ */
+public interface IRemoteCheckTransport {
+
+    /**
+     * Called on a background thread, it may block and should stop early if interrupted.
+     *
+     * @param value The trimmed value typed by the user
+     * @return {@code true} if the value is accepted, {@code false} if it is taken
+     * @throws Exception If the check could not be done, the answer is then not cached
+     */
+    boolean check(String value) throws Exception;
+}
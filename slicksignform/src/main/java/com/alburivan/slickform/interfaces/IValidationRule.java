@@ -0,0 +1,23 @@
+package com.alburivan.slickform.interfaces;
+
+import com.alburivan.slickform.FormField;
+
+/**
+ * A single check of a FormField, added with {@link FormField#withRule(IValidationRule)}. Rules
+ * are chained and run from the cheapest to the most expensive one, see
+ * {@link com.alburivan.slickform.validators.RuleChain}.
+ */
+public interface IValidationRule {
+
+    /**
+     * @param field The field to validate
+     * @return {@code true} if the field passes this rule
+     */
+    boolean validate(FormField field);
+
+    /**
+     * @return The estimated cost of running this rule, relative to the costs in
+     *         {@link com.alburivan.slickform.validators.Rules}
+     */
+    int getCost();
+}
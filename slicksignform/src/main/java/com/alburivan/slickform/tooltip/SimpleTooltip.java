@@ -23,19 +23,18 @@ package com.alburivan.slickform.tooltip;
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.graphics.Color;
+import android.graphics.Paint;
 import android.graphics.PointF;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.ColorInt;
 import android.support.annotation.DimenRes;
 import android.support.annotation.DrawableRes;
@@ -44,18 +43,21 @@ import android.support.annotation.LayoutRes;
 import android.support.v4.content.ContextCompat;
 import android.support.v7.widget.AppCompatPopupWindow;
 import android.support.v7.widget.LinearLayoutCompat;
+import android.text.TextPaint;
+import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewTreeObserver;
-import android.view.animation.AccelerateDecelerateInterpolator;
 import android.widget.ImageView;
 import android.widget.PopupWindow;
 import android.widget.TextView;
 
 import com.alburivan.slickform.R;
+import com.alburivan.slickform.animators.FrameTicker;
+import com.alburivan.slickform.animators.Tween;
 
 
 /**
@@ -70,7 +72,7 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
 
     // Default Resources
     private static final int mDefaultPopupWindowStyleRes = android.R.attr.popupWindowStyle;
-    private static final int mDefaultTextAppearanceRes = R.style.simpletooltip_default;
+    private static final float mDefaultTextSize = 22;
     private static final int mDefaultBackgroundColorRes = R.color.simpletooltip_background;
     private static final int mDefaultTextColorRes = R.color.simpletooltip_text;
     private static final int mDefaultArrowColorRes = R.color.simpletooltip_arrow;
@@ -103,7 +105,7 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
     private ImageView mArrowView;
     private final Drawable mArrowDrawable;
     private final boolean mAnimated;
-    private AnimatorSet mAnimator;
+    private Tween mAnimator;
     private final float mMargin;
     private final float mPadding;
     private final int mAnimationPadding;
@@ -111,6 +113,10 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
     private final float mArrowWidth;
     private final float mArrowHeight;
     private boolean dismissed = false;
+    private final boolean mInWindow;
+    private boolean mShowingInWindow = false;
+    private final RectF mContentRect = new RectF();
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
 
 
     private SimpleTooltip(Builder builder) {
@@ -136,13 +142,15 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
         mAnimationDuration = builder.animationDuration;
         mOnDismissListener = builder.onDismissListener;
         mOnShowListener = builder.onShowListener;
+        mInWindow = builder.inWindow;
         mRootView = (ViewGroup) mAnchorView.getRootView();
 
         init();
     }
 
     private void init() {
-        configPopupWindow();
+        if (!mInWindow)
+            configPopupWindow();
         configContentView();
     }
 
@@ -161,8 +169,19 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
     public void show() {
         verifyDismissed();
 
+        mAnchorView.addOnAttachStateChangeListener(mAutoDismissAttachListener);
+
+        if (mInWindow) {
+            mRootView.post(new Runnable() {
+                @Override
+                public void run() {
+                    showInWindow();
+                }
+            });
+            return;
+        }
+
         mContentLayout.getViewTreeObserver().addOnGlobalLayoutListener(mLocationLayoutListener);
-        mContentLayout.getViewTreeObserver().addOnGlobalLayoutListener(mAutoDismissLayoutListener);
 
         mRootView.post(new Runnable() {
             @Override
@@ -172,6 +191,60 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
         });
     }
 
+    /**
+     * Draws the tooltip in the host window itself, on its overlay layer when available, instead of
+     * opening a new window. The content is measured and placed right away, so there are no
+     * window manager round trips. The view catching the touches around the tooltip is still a
+     * child of the root, as is the content itself below API 18, so adding them costs one layout
+     * pass of the host.
+     */
+    private void showInWindow() {
+        if (dismissed || mShowingInWindow)
+            return;
+
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(mRootView.getWidth(), View.MeasureSpec.AT_MOST);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(mRootView.getHeight(), View.MeasureSpec.AT_MOST);
+
+        mContentLayout.measure(widthSpec, heightSpec);
+
+        if (mMaxWidth > 0 && mContentView.getMeasuredWidth() > mMaxWidth) {
+            SimpleTooltipUtils.setWidth(mContentView, mMaxWidth);
+            mContentLayout.measure(widthSpec, heightSpec);
+        }
+
+        PointF location = calculePopupLocation();
+        int width = mContentLayout.getMeasuredWidth();
+        int height = mContentLayout.getMeasuredHeight();
+
+        createOverlay();
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+            mContentLayout.layout((int) location.x, (int) location.y, (int) location.x + width, (int) location.y + height);
+            mRootView.getOverlay().add(mContentLayout);
+        } else {
+            mRootView.addView(mContentLayout, new ViewGroup.LayoutParams(width, height));
+            mContentLayout.layout(0, 0, width, height);
+            SimpleTooltipUtils.setX(mContentLayout, (int) location.x);
+            SimpleTooltipUtils.setY(mContentLayout, (int) location.y);
+        }
+
+        mContentRect.set(location.x, location.y, location.x + width, location.y + height);
+        mShowingInWindow = true;
+
+        if (mShowArrow) {
+            RectF anchorRect = SimpleTooltipUtils.calculeRectInWindow(mAnchorView);
+            placeArrow(anchorRect, mContentRect);
+        }
+
+        if (mOnShowListener != null)
+            mOnShowListener.onShow(this);
+
+        mContentLayout.setVisibility(View.VISIBLE);
+
+        if (mAnimated)
+            startAnimation();
+    }
+
     private void verifyDismissed() {
         if (dismissed) {
             throw new IllegalArgumentException("Tooltip has ben dismissed.");
@@ -179,7 +252,35 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
     }
 
     private void createOverlay() {
-        mOverlay = mTransparentOverlay ? new View(mContext) : new OverlayView(mContext, mAnchorView);
+        if (mTransparentOverlay) {
+            mOverlay = new View(mContext) {
+                @Override
+                protected void onVisibilityChanged(View changedView, int visibility) {
+                    super.onVisibilityChanged(changedView, visibility);
+                    onHostVisibilityChanged(visibility);
+                }
+
+                @Override
+                protected void onWindowVisibilityChanged(int visibility) {
+                    super.onWindowVisibilityChanged(visibility);
+                    onHostVisibilityChanged(visibility);
+                }
+            };
+        } else {
+            mOverlay = new OverlayView(mContext, mAnchorView) {
+                @Override
+                protected void onVisibilityChanged(View changedView, int visibility) {
+                    super.onVisibilityChanged(changedView, visibility);
+                    onHostVisibilityChanged(visibility);
+                }
+
+                @Override
+                protected void onWindowVisibilityChanged(int visibility) {
+                    super.onWindowVisibilityChanged(visibility);
+                    onHostVisibilityChanged(visibility);
+                }
+            };
+        }
         mOverlay.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
         mOverlay.setOnTouchListener(mOverlayTouchListener);
         mRootView.addView(mOverlay);
@@ -191,21 +292,24 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
         final RectF anchorRect = SimpleTooltipUtils.calculeRectInWindow(mAnchorView);
         final PointF anchorCenter = new PointF(anchorRect.centerX(), anchorRect.centerY());
 
+        final float width = mContentLayout.getMeasuredWidth();
+        final float height = mContentLayout.getMeasuredHeight();
+
         switch (mGravity) {
             case Gravity.START:
-                location.x = anchorRect.left - mPopupWindow.getContentView().getWidth() - mMargin;
-                location.y = anchorCenter.y - mPopupWindow.getContentView().getHeight() / 2f;
+                location.x = anchorRect.left - width - mMargin;
+                location.y = anchorCenter.y - height / 2f;
                 break;
             case Gravity.END:
                 location.x = anchorRect.right + mMargin;
-                location.y = anchorCenter.y - mPopupWindow.getContentView().getHeight() / 2f;
+                location.y = anchorCenter.y - height / 2f;
                 break;
             case Gravity.TOP:
-                location.x = anchorCenter.x - mPopupWindow.getContentView().getWidth() / 2f;
-                location.y = anchorRect.top - mPopupWindow.getContentView().getHeight() - mMargin;
+                location.x = anchorCenter.x - width / 2f;
+                location.y = anchorRect.top - height - mMargin;
                 break;
             case Gravity.BOTTOM:
-                location.x = anchorCenter.x - mPopupWindow.getContentView().getWidth() / 2f;
+                location.x = anchorCenter.x - width / 2f;
                 location.y = anchorRect.bottom + mMargin;
                 break;
             default:
@@ -261,7 +365,8 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             mContentView.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
         }
         mContentLayout.setVisibility(View.INVISIBLE);
-        mPopupWindow.setContentView(mContentLayout);
+        if (mPopupWindow != null)
+            mPopupWindow.setContentView(mContentLayout);
     }
 
     public void dismiss() {
@@ -269,11 +374,42 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             return;
 
         dismissed = true;
+        removeListeners();
+
         if (mPopupWindow != null) {
             mPopupWindow.dismiss();
+        } else if (mInWindow) {
+            removeFromWindow();
+            onDismiss();
         }
     }
 
+    /**
+     * <div class="en">Removes every listener this tooltip registered, so a dismissed tooltip does not take part in
+     * any later layout pass of the host.</div>
+     */
+    private void removeListeners() {
+        SimpleTooltipUtils.removeOnGlobalLayoutListener(mContentLayout, mLocationLayoutListener);
+        SimpleTooltipUtils.removeOnGlobalLayoutListener(mContentLayout, mArrowLayoutListener);
+        SimpleTooltipUtils.removeOnGlobalLayoutListener(mContentLayout, mShowLayoutListener);
+        SimpleTooltipUtils.removeOnGlobalLayoutListener(mContentLayout, mAnimationLayoutListener);
+
+        mAnchorView.removeOnAttachStateChangeListener(mAutoDismissAttachListener);
+        mHandler.removeCallbacks(mAutoDismissRunnable);
+    }
+
+    private void removeFromWindow() {
+        if (!mShowingInWindow)
+            return;
+
+        mShowingInWindow = false;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2)
+            mRootView.getOverlay().remove(mContentLayout);
+        else
+            mRootView.removeView(mContentLayout);
+    }
+
     /**
      * <div class="pt">Indica se o tooltip está sendo exibido na tela.</div>
      * <div class=en">Indicate whether this tooltip is showing on screen.</div>
@@ -282,6 +418,8 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
      * <div class="en"><tt>true</tt> if the popup is showing, <tt>false</tt> otherwise</div>
      */
     public boolean isShowing() {
+        if (mInWindow)
+            return mShowingInWindow;
         return mPopupWindow != null && mPopupWindow.isShowing();
     }
 
@@ -293,11 +431,10 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
     @Override
     public void onDismiss() {
         dismissed = true;
+        removeListeners();
 
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
             if (mAnimator != null) {
-                mAnimator.removeAllListeners();
-                mAnimator.end();
                 mAnimator.cancel();
             }
         }
@@ -335,6 +472,13 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
 
         @Override
         public boolean onTouch(View v, MotionEvent event) {
+            if (mInWindow && mContentRect.contains(event.getX(), event.getY())) {
+                if (mDismissOnInsideTouch) {
+                    dismiss();
+                    return mModal;
+                }
+                return false;
+            }
             if (mDismissOnOutsideTouch) {
                 dismiss();
             }
@@ -379,41 +523,48 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             if (mShowArrow) {
                 RectF achorRect = SimpleTooltipUtils.calculeRectOnScreen(mAnchorView);
                 RectF contentViewRect = SimpleTooltipUtils.calculeRectOnScreen(mContentLayout);
-                float x, y;
-                if (mGravity == Gravity.BOTTOM || mGravity == Gravity.TOP) {
-                    x = mContentLayout.getPaddingLeft() + SimpleTooltipUtils.pxFromDp(2);
-                    float centerX = (contentViewRect.width() / 2f) - (mArrowView.getWidth() / 2f);
-                    float newX = centerX - (contentViewRect.centerX() - achorRect.centerX());
-                    if (newX > x) {
-                        if (newX + mArrowView.getWidth() + x > contentViewRect.width()) {
-                            x = contentViewRect.width() - mArrowView.getWidth() - x;
-                        } else {
-                            x = newX;
-                        }
-                    }
-                    y = mArrowView.getTop();
-                    y = y + (mGravity == Gravity.TOP ? -1 : +1);
-                } else {
-                    y = mContentLayout.getPaddingTop() + SimpleTooltipUtils.pxFromDp(2);
-                    float centerY = (contentViewRect.height() / 2f) - (mArrowView.getHeight() / 2f);
-                    float newY = centerY - (contentViewRect.centerY() - achorRect.centerY());
-                    if (newY > y) {
-                        if (newY + mArrowView.getHeight() + y > contentViewRect.height()) {
-                            y = contentViewRect.height() - mArrowView.getHeight() - y;
-                        } else {
-                            y = newY;
-                        }
-                    }
-                    x = mArrowView.getLeft();
-                    x = x + (mGravity == Gravity.START ? -1 : +1);
-                }
-                SimpleTooltipUtils.setX(mArrowView, (int) x);
-                SimpleTooltipUtils.setY(mArrowView, (int) y);
+                placeArrow(achorRect, contentViewRect);
             }
             mPopupWindow.getContentView().requestLayout();
         }
     };
 
+    /**
+     * <div class="en">Points the arrow to the anchor, both rects must share the same coordinate system.</div>
+     */
+    private void placeArrow(RectF achorRect, RectF contentViewRect) {
+        float x, y;
+        if (mGravity == Gravity.BOTTOM || mGravity == Gravity.TOP) {
+            x = mContentLayout.getPaddingLeft() + SimpleTooltipUtils.pxFromDp(2);
+            float centerX = (contentViewRect.width() / 2f) - (mArrowView.getWidth() / 2f);
+            float newX = centerX - (contentViewRect.centerX() - achorRect.centerX());
+            if (newX > x) {
+                if (newX + mArrowView.getWidth() + x > contentViewRect.width()) {
+                    x = contentViewRect.width() - mArrowView.getWidth() - x;
+                } else {
+                    x = newX;
+                }
+            }
+            y = mArrowView.getTop();
+            y = y + (mGravity == Gravity.TOP ? -1 : +1);
+        } else {
+            y = mContentLayout.getPaddingTop() + SimpleTooltipUtils.pxFromDp(2);
+            float centerY = (contentViewRect.height() / 2f) - (mArrowView.getHeight() / 2f);
+            float newY = centerY - (contentViewRect.centerY() - achorRect.centerY());
+            if (newY > y) {
+                if (newY + mArrowView.getHeight() + y > contentViewRect.height()) {
+                    y = contentViewRect.height() - mArrowView.getHeight() - y;
+                } else {
+                    y = newY;
+                }
+            }
+            x = mArrowView.getLeft();
+            x = x + (mGravity == Gravity.START ? -1 : +1);
+        }
+        SimpleTooltipUtils.setX(mArrowView, (int) x);
+        SimpleTooltipUtils.setY(mArrowView, (int) y);
+    }
+
     private final ViewTreeObserver.OnGlobalLayoutListener mShowLayoutListener = new ViewTreeObserver.OnGlobalLayoutListener() {
         @Override
         public void onGlobalLayout() {
@@ -443,44 +594,57 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
 
     @TargetApi(Build.VERSION_CODES.HONEYCOMB)
     private void startAnimation() {
-        final String property = mGravity == Gravity.TOP || mGravity == Gravity.BOTTOM ? "translationY" : "translationX";
-
-        final ObjectAnimator anim1 = ObjectAnimator.ofFloat(mContentLayout, property, -mAnimationPadding, mAnimationPadding);
-        anim1.setDuration(mAnimationDuration);
-        anim1.setInterpolator(new AccelerateDecelerateInterpolator());
+        final boolean isVertical = mGravity == Gravity.TOP || mGravity == Gravity.BOTTOM;
 
-        final ObjectAnimator anim2 = ObjectAnimator.ofFloat(mContentLayout, property, mAnimationPadding, -mAnimationPadding);
-        anim2.setDuration(mAnimationDuration);
-        anim2.setInterpolator(new AccelerateDecelerateInterpolator());
-
-        mAnimator = new AnimatorSet();
-        mAnimator.playSequentially(anim1, anim2);
-        mAnimator.addListener(new AnimatorListenerAdapter() {
+        mAnimator = new Tween() {
             @Override
-            public void onAnimationEnd(Animator animation) {
-                if (!dismissed && isShowing()) {
-                    animation.start();
-                }
+            protected void onUpdate(float fraction) {
+                float value = -mAnimationPadding + 2 * mAnimationPadding * fraction;
+
+                if (isVertical)
+                    mContentLayout.setTranslationY(value);
+                else
+                    mContentLayout.setTranslationX(value);
             }
-        });
-        mAnimator.start();
+        };
+
+        mAnimator.setDuration((long) (mAnimationDuration * FrameTicker.getDurationScale(mContext)))
+                .setInterpolator(FrameTicker.ACCELERATE_DECELERATE)
+                .setRepeatReverse(true)
+                .start();
     }
 
     /**
-     * <div class="pt">Listener utilizado para chamar o <tt>SimpleTooltip#dismiss()</tt> quando a <tt>View</tt> root é encerrada sem que a tooltip seja fechada.
+     * <div class="pt">Listener utilizado para chamar o <tt>SimpleTooltip#dismiss()</tt> quando o <tt>anchorView</tt> é removido da janela sem que a tooltip seja fechada.
      * Pode ocorrer quando a tooltip é utilizada dentro de Dialogs.</div>
+     * <div class="en">Dismisses the tooltip once the anchor leaves its window, e.g. when the tooltip is used inside a Dialog.</div>
      */
-    private final ViewTreeObserver.OnGlobalLayoutListener mAutoDismissLayoutListener = new ViewTreeObserver.OnGlobalLayoutListener() {
+    private final View.OnAttachStateChangeListener mAutoDismissAttachListener = new View.OnAttachStateChangeListener() {
         @Override
-        public void onGlobalLayout() {
-            if (dismissed)
-                return;
+        public void onViewAttachedToWindow(View v) {
+        }
 
-            if (!mRootView.isShown())
-                dismiss();
+        @Override
+        public void onViewDetachedFromWindow(View v) {
+            mHandler.post(mAutoDismissRunnable);
+        }
+    };
+
+    /**
+     * <div class="en">Views can't be removed while the host is dispatching the change, so the dismiss runs right after it.</div>
+     */
+    private final Runnable mAutoDismissRunnable = new Runnable() {
+        @Override
+        public void run() {
+            dismiss();
         }
     };
 
+    private void onHostVisibilityChanged(int visibility) {
+        if (!dismissed && visibility != View.VISIBLE)
+            mHandler.post(mAutoDismissRunnable);
+    }
+
     public interface OnDismissListener {
         void onDismiss(SimpleTooltip tooltip);
     }
@@ -524,6 +688,7 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
         private int arrowColor;
         private float arrowHeight;
         private float arrowWidth;
+        private boolean inWindow = false;
 
         public Builder(Context context) {
             this.context = context;
@@ -537,14 +702,8 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             if (textColor == 0) {
                 textColor = ContextCompat.getColor(context, mDefaultTextColorRes);
             }
-            if (contentView == null) {
-                TextView tv = new TextView(context);
-                SimpleTooltipUtils.setTextAppearance(tv, mDefaultTextAppearanceRes);
-                tv.setBackgroundColor(backgroundColor);
-                tv.setTextColor(textColor);
-                tv.setTypeface(tv.getTypeface(), Typeface.BOLD);
-                tv.setTextSize(22);
-                contentView = tv;
+            if (padding < 0) {
+                padding = context.getResources().getDimensionPixelSize(mDefaultPaddingRes);
             }
             if (arrowColor == 0) {
                 arrowColor = ContextCompat.getColor(context, mDefaultArrowColorRes);
@@ -556,9 +715,6 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             if (margin < 0) {
                 margin = context.getResources().getDimension(mDefaultMarginRes);
             }
-            if (padding < 0) {
-                padding = context.getResources().getDimensionPixelSize(mDefaultPaddingRes);
-            }
             if (animationPadding == 0) {
                 animationPadding = context.getResources().getDimensionPixelSize(mDefaultAnimationPaddingRes);
             }
@@ -574,9 +730,40 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
                 if (arrowHeight == 0)
                     arrowHeight = context.getResources().getDimension(mDefaultArrowHeightRes);
             }
+            if (contentView == null) {
+                TextPaint paint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+                paint.setColor(textColor);
+                paint.setTypeface(Typeface.defaultFromStyle(Typeface.BOLD));
+                paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, mDefaultTextSize, context.getResources().getDisplayMetrics()));
+
+                TooltipTextView tv = new TooltipTextView(context, text, paint, calculeTextWidth());
+                tv.setBackgroundColor(backgroundColor);
+                contentView = tv;
+            }
             return new SimpleTooltip(this);
         }
 
+        /**
+         * The width the text gets once measured, taking off what the content layout takes around
+         * it, so the layout precomputed for it is the one used.
+         */
+        private int calculeTextWidth() {
+            if (maxWidth > 0)
+                return (int) Math.max(0, maxWidth - 2 * padding);
+
+            float width = context.getResources().getDisplayMetrics().widthPixels;
+
+            if (showArrow) {
+                int layoutPadding = animated ? animationPadding : (int) SimpleTooltipUtils.pxFromDp(4);
+                width -= 2 * layoutPadding;
+
+                if (gravity == Gravity.START || gravity == Gravity.END)
+                    width -= arrowHeight;
+            }
+
+            return (int) Math.max(0, width - 2 * padding);
+        }
+
         private void validateArguments() throws IllegalArgumentException {
             if (context == null) {
                 throw new IllegalArgumentException("Context not specified.");
@@ -899,6 +1086,20 @@ public class SimpleTooltip implements PopupWindow.OnDismissListener {
             return this;
         }
 
+        /**
+         * <div class="pt">Define se o tooltip será desenhado na própria janela do <tt>anchorView</tt> em vez de um <tt>PopupWindow</tt>. Padrão é <tt>false</tt>.</div>
+         * <div class="en">Indicates whether the tooltip is drawn in the anchor's own window instead of a <tt>PopupWindow</tt>, which makes showing and hiding it
+         * free of window manager work. Default is <tt>false</tt>.</div>
+         *
+         * @param inWindow <div class="pt"><tt>true</tt> para desenhar na janela, <tt>false</tt> caso contrário.</div>
+         *                 <div class="en"><tt>true</tt> to draw in the window, <tt>false</tt> otherwise.</div>
+         * @return this
+         */
+        public Builder inWindow(boolean inWindow) {
+            this.inWindow = inWindow;
+            return this;
+        }
+
         public Builder onDismissListener(OnDismissListener onDismissListener) {
             this.onDismissListener = onDismissListener;
             return this;
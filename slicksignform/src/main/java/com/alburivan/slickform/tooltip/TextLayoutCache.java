@@ -0,0 +1,93 @@
+package com.alburivan.slickform.tooltip;
+
+import android.graphics.Typeface;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.util.LruCache;
+
+/**
+ * (っ･_･)っ
+ *  TextLayoutCache keeps the text layouts of the tooltips, keyed by their text, style and
+ *  available width. Layouts are built with {@link StaticLayout}, which does the measuring and
+ *  shaping of the text up front, so it can be done on a background thread and only drawn later
+ *  on the main thread.
+ *
+ *  <p>
+ *      Every method is safe to be called from any thread.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class TextLayoutCache {
+
+    /** Default maximum number of layouts kept */
+    public static final int DEFAULT_MAX_ENTRIES = 32;
+
+    private static final LruCache<String, StaticLayout> cache = new LruCache<>(DEFAULT_MAX_ENTRIES);
+
+
+    private TextLayoutCache() {}
+
+    /**
+     * Returns the cached layout for the given text, style and width, building it on the calling
+     * thread if it is not cached yet.
+     *
+     * @param text The text to lay out
+     * @param paint The paint holding the text's style, it is copied and never modified
+     * @param maxWidth The maximum width available to the text, in pixels
+     * @return The layout, as wide as the text needs up to {@code maxWidth}
+     */
+    public static StaticLayout get(CharSequence text, TextPaint paint, int maxWidth) {
+        String key = keyOf(text, paint, maxWidth);
+        StaticLayout layout = cache.get(key);
+
+        if (layout == null) {
+            layout = build(text, new TextPaint(paint), maxWidth);
+            cache.put(key, layout);
+        }
+
+        return layout;
+    }
+
+    /**
+     * @return The cached layout for the given text, style and width, or {@code null} if it was
+     *         not built yet
+     */
+    public static StaticLayout getIfCached(CharSequence text, TextPaint paint, int maxWidth) {
+        return cache.get(keyOf(text, paint, maxWidth));
+    }
+
+    public static void clear() {
+        cache.evictAll();
+    }
+
+    public static int getHitCount() {
+        return cache.hitCount();
+    }
+
+    public static int getMissCount() {
+        return cache.missCount();
+    }
+
+    private static StaticLayout build(CharSequence text, TextPaint paint, int maxWidth) {
+        int width = (int) Math.ceil(Layout.getDesiredWidth(text, paint));
+        width = Math.max(0, Math.min(width, maxWidth));
+
+        return new StaticLayout(text, paint, width, Layout.Alignment.ALIGN_NORMAL, 1.0f, 0.0f, true);
+    }
+
+    private static String keyOf(CharSequence text, TextPaint paint, int maxWidth) {
+        Typeface typeface = paint.getTypeface();
+
+        return new StringBuilder(text.length() + 48)
+                .append(text)
+                .append('|').append(paint.getTextSize())
+                .append('|').append(paint.getColor())
+                .append('|').append(typeface == null ? 0 : System.identityHashCode(typeface))
+                .append('|').append(paint.isFakeBoldText())
+                .append('|').append(maxWidth)
+                .toString();
+    }
+}
@@ -0,0 +1,134 @@
+package com.alburivan.slickform.tooltip;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.os.AsyncTask;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.view.View;
+
+/**
+ * (っ･_･)っ
+ *  TooltipTextView is the default content of a SimpleTooltip. Unlike a TextView, its text layout
+ *  is built on a background thread as soon as the view is created, through
+ *  {@link TextLayoutCache}, so by the time the tooltip is shown the main thread only has to draw
+ *  it. If the layout is not ready when the view is measured, it is built right there instead.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+@SuppressLint("ViewConstructor")
+public class TooltipTextView extends View {
+
+    private final CharSequence mText;
+    private final TextPaint mPaint;
+    private final int mMaxTextWidth;
+    private StaticLayout mLayout;
+    private int mLayoutMaxWidth;
+    private PrecomputeTask mPrecomputeTask;
+
+
+    /**
+     * @param context The context used to create this view
+     * @param text The text to show
+     * @param paint The paint holding the text's style, it must not be modified afterwards
+     * @param maxTextWidth The maximum width available to the text, without padding
+     */
+    TooltipTextView(Context context, CharSequence text, TextPaint paint, int maxTextWidth) {
+        super(context);
+        this.mText = text == null ? "" : text;
+        this.mPaint = paint;
+        this.mMaxTextWidth = maxTextWidth;
+        this.mLayout = TextLayoutCache.getIfCached(mText, mPaint, mMaxTextWidth);
+        this.mLayoutMaxWidth = mMaxTextWidth;
+
+        if (mLayout == null) {
+            mPrecomputeTask = new PrecomputeTask();
+            mPrecomputeTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int horizontalPadding = getPaddingLeft() + getPaddingRight();
+        int verticalPadding = getPaddingTop() + getPaddingBottom();
+
+        int textWidth = mMaxTextWidth;
+
+        if (MeasureSpec.getMode(widthMeasureSpec) != MeasureSpec.UNSPECIFIED)
+            textWidth = Math.min(textWidth, MeasureSpec.getSize(widthMeasureSpec) - horizontalPadding);
+
+        StaticLayout layout = getTextLayout(Math.max(0, textWidth));
+
+        int width = horizontalPadding + layout.getWidth();
+        int height = verticalPadding + layout.getHeight();
+
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        if (mLayout == null)
+            return;
+
+        canvas.save();
+        canvas.translate(getPaddingLeft(), getPaddingTop());
+        mLayout.draw(canvas);
+        canvas.restore();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        if (mPrecomputeTask != null) {
+            mPrecomputeTask.cancel(false);
+            mPrecomputeTask = null;
+        }
+    }
+
+    public CharSequence getText() {
+        return mText;
+    }
+
+    private StaticLayout getTextLayout(int textWidth) {
+        // every line still fits, so breaking them at the narrower width gives the same layout
+        if (mLayout != null && mLayout.getWidth() <= textWidth && textWidth <= mLayoutMaxWidth)
+            return mLayout;
+
+        if (mPrecomputeTask != null) {
+            mPrecomputeTask.cancel(false);
+            mPrecomputeTask = null;
+        }
+
+        // less room than expected, or not precomputed yet
+        mLayout = TextLayoutCache.get(mText, mPaint, textWidth);
+        mLayoutMaxWidth = textWidth;
+        return mLayout;
+    }
+
+    private class PrecomputeTask extends AsyncTask<Void, Void, StaticLayout> {
+
+        @Override
+        protected StaticLayout doInBackground(Void... params) {
+            return TextLayoutCache.get(mText, mPaint, mMaxTextWidth);
+        }
+
+        @Override
+        protected void onPostExecute(StaticLayout layout) {
+            if (mPrecomputeTask != this)
+                return;
+
+            mPrecomputeTask = null;
+
+            if (mLayout == null) {
+                mLayout = layout;
+                mLayoutMaxWidth = mMaxTextWidth;
+                requestLayout();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.alburivan.slickform.validators;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * (っ･_･)っ
+ *  BloomFilter answers whether a value may be part of a large list, such as a list of known
+ *  breached passwords, without keeping the list itself. The filter is memory mapped from a file
+ *  written by {@link BloomFilterBuilder}, so it opens instantly and its bits live outside of the
+ *  Java heap. Lookups hash the CharSequence in place, without copying it into a String.
+ *
+ *  <p>
+ *      A {@code false} answer is always right, a {@code true} answer is wrong at the false
+ *      positive rate chosen when the filter was built. Lookups are safe from any thread.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class BloomFilter {
+
+    /** "SLBF", the first bytes of every filter file */
+    static final int MAGIC = 0x534C4246;
+    static final int VERSION = 1;
+
+    /** Magic, version, number of bits and number of hashes */
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+
+    private final ByteBuffer buffer;
+    private final long bitCount;
+    private final int hashCount;
+
+
+    private BloomFilter(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IOException("Not a bloom filter file");
+
+        this.buffer    = buffer;
+        this.bitCount  = buffer.getLong(8);
+        this.hashCount = buffer.getInt(16);
+
+        if (bitCount <= 0 || hashCount <= 0 || HEADER_SIZE + (bitCount + 7) / 8 > buffer.capacity())
+            throw new IOException("Truncated bloom filter file");
+    }
+
+    /**
+     * @param file A filter file written by {@link BloomFilterBuilder}
+     * @return The filter, mapped from the file
+     * @throws IOException If the file can't be read or is not a filter
+     */
+    public static BloomFilter open(File file) throws IOException {
+        return new BloomFilter(MappedFiles.map(file));
+    }
+
+    /**
+     * Opens a filter bundled in the app's assets, it is copied once into the app's files to be
+     * mapped. Should be called off the main thread the first time.
+     *
+     * @param context The context used to read the assets
+     * @param assetName The name of the filter file in the assets
+     * @return The filter
+     * @throws IOException If the asset can't be copied or is not a filter
+     */
+    public static BloomFilter fromAsset(Context context, String assetName) throws IOException {
+        return open(MappedFiles.copyAsset(context, assetName));
+    }
+
+    /**
+     * @param value The value to look up
+     * @return {@code false} if the value is surely not in the list, {@code true} if it may be
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, i, bitCount);
+
+            if ((buffer.get(HEADER_SIZE + (int) (bit >>> 3)) & (1 << (bit & 7))) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 64 bit FNV-1a over the UTF-16 chars of the value, followed by the MurmurHash3 finalizer so
+     * both halves are well mixed.
+     */
+    static long hash(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    /**
+     * The i-th bit of a value, derived from the two halves of its hash (Kirsch and Mitzenmacher),
+     * so a single hash of the value is enough.
+     */
+    static long bitIndex(long hash, int i, long bitCount) {
+        long low = hash & 0xffffffffL;
+        long high = hash >>> 32;
+
+        return ((low + i * high) & Long.MAX_VALUE) % bitCount;
+    }
+}
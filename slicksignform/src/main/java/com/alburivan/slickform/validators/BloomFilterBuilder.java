@@ -0,0 +1,90 @@
+package com.alburivan.slickform.validators;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * (っ･_･)っ
+ *  BloomFilterBuilder writes the filter files read by {@link BloomFilter}. It only depends on
+ *  the JDK, so it can be used from the app as well as on a computer, where the
+ *  {@code BloomFilterTool} of the test sources builds the file that gets bundled or downloaded.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class BloomFilterBuilder {
+
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.001;
+
+    private final long bitCount;
+    private final int hashCount;
+    private final byte[] bits;
+    private long entryCount = 0;
+
+
+    /**
+     * @param expectedEntries The number of values that will be added
+     * @param falsePositiveRate The chance for a value that was not added to be reported as added
+     */
+    public BloomFilterBuilder(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("Invalid bloom filter size");
+
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long bytes = (optimalBits + 7) / 8;
+
+        if (bytes > Integer.MAX_VALUE - BloomFilter.HEADER_SIZE)
+            throw new IllegalArgumentException("The bloom filter would be too large");
+
+        this.bitCount = bytes * 8;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * ln2));
+        this.bits = new byte[(int) bytes];
+    }
+
+    public BloomFilterBuilder add(CharSequence value) {
+        long hash = BloomFilter.hash(value);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = BloomFilter.bitIndex(hash, i, bitCount);
+            bits[(int) (bit >>> 3)] |= 1 << (bit & 7);
+        }
+
+        entryCount++;
+        return this;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @param file The file to write the filter to, replaced if it exists
+     * @throws IOException If the file can't be written
+     */
+    public void writeTo(File file) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+        try {
+            output.writeInt(BloomFilter.MAGIC);
+            output.writeInt(BloomFilter.VERSION);
+            output.writeLong(bitCount);
+            output.writeInt(hashCount);
+            output.write(bits);
+        }
+        finally {
+            output.close();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.alburivan.slickform.validators;
+
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.ICrossFieldRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * (っ･_･)っ
+ *  CrossFieldGraph links every cross field rule to the FormFields it depends on. When a field is
+ *  validated only the rules that depend on it are looked at, and each rule keeps its last result
+ *  along with the text versions of its fields, so it only runs again if one of them changed.
+ *  The cost of a validation follows the size of the change instead of the size of the form.
+ *
+ *  <p>
+ *      A rule runs once every field it depends on has been validated at least once. Must be used
+ *      from the main thread.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class CrossFieldGraph {
+
+    private final IdentityHashMap<FormField, List<Node>> dependents = new IdentityHashMap<>();
+    private final IdentityHashMap<FormField, Boolean> reached = new IdentityHashMap<>();
+    private final List<Node> nodes = new ArrayList<>();
+    private int evaluationCount = 0;
+
+
+    /**
+     * @param rule The rule to add
+     * @param fields The fields the rule depends on
+     * @return This CrossFieldGraph instance
+     * @throws IllegalArgumentException If no field is given
+     */
+    public CrossFieldGraph add(ICrossFieldRule rule, FormField... fields) {
+        if (fields == null || fields.length == 0)
+            throw new IllegalArgumentException("A cross field rule must depend on at least one field");
+
+        Node node = new Node(rule, fields);
+        nodes.add(node);
+
+        for (FormField field : fields) {
+            List<Node> fieldDependents = dependents.get(field);
+
+            if (fieldDependents == null) {
+                fieldDependents = new ArrayList<>(2);
+                dependents.put(field, fieldDependents);
+            }
+
+            fieldDependents.add(node);
+        }
+
+        return this;
+    }
+
+    /**
+     * Validates the rules that depend on the given field and whose fields have all been reached.
+     *
+     * @param field The field being validated
+     * @return {@code true} if every rule depending on the field passes
+     */
+    public boolean validate(FormField field) {
+        reached.put(field, Boolean.TRUE);
+
+        List<Node> fieldDependents = dependents.get(field);
+
+        if (fieldDependents == null)
+            return true;
+
+        for (int i = 0; i < fieldDependents.size(); i++) {
+            Node node = fieldDependents.get(i);
+
+            if (isReady(node) && !evaluate(node))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Validates every rule regardless of the fields reached so far, still reusing the results of
+     * the rules whose fields did not change.
+     *
+     * @return {@code true} if every rule passes
+     */
+    public boolean validateAll() {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (!evaluate(nodes.get(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Like {@link #validateAll()}, but goes through every rule and gathers the fields of the ones
+     * that fail.
+     *
+     * @param invalidFields Receives the fields of every failing rule, each field only once
+     * @return {@code true} if every rule passes
+     */
+    public boolean validateAll(Collection<FormField> invalidFields) {
+        boolean isValid = true;
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+
+            if (evaluate(node))
+                continue;
+
+            isValid = false;
+
+            for (int j = 0; j < node.fields.size(); j++) {
+                if (!invalidFields.contains(node.fields.get(j)))
+                    invalidFields.add(node.fields.get(j));
+            }
+        }
+
+        return isValid;
+    }
+
+    /**
+     * @return The number of times a rule actually ran, cached results are not counted
+     */
+    public int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private boolean isReady(Node node) {
+        for (int i = 0; i < node.fields.size(); i++) {
+            if (!reached.containsKey(node.fields.get(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean evaluate(Node node) {
+        if (node.isUpToDate())
+            return node.result;
+
+        node.result = node.rule.validate(node.fields);
+        node.snapshotVersions();
+        evaluationCount++;
+
+        return node.result;
+    }
+
+    private static final class Node {
+
+        final ICrossFieldRule rule;
+        final List<FormField> fields;
+        final int[] versions;
+        boolean isEvaluated = false;
+        boolean result;
+
+        Node(ICrossFieldRule rule, FormField[] fields) {
+            this.rule = rule;
+            this.fields = Collections.unmodifiableList(Arrays.asList(fields.clone()));
+            this.versions = new int[fields.length];
+        }
+
+        boolean isUpToDate() {
+            if (!isEvaluated)
+                return false;
+
+            for (int i = 0; i < versions.length; i++) {
+                if (versions[i] != fields.get(i).getTextVersion())
+                    return false;
+            }
+
+            return true;
+        }
+
+        void snapshotVersions() {
+            for (int i = 0; i < versions.length; i++)
+                versions[i] = fields.get(i).getTextVersion();
+
+            isEvaluated = true;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.alburivan.slickform.validators;
+
+/**
+ * (っ･_･)っ
+ *  DateTimeParser reads dates and times from a CharSequence following a fixed pattern, without
+ *  the allocations of a SimpleDateFormat. The pattern is compiled once, so a single instance can
+ *  be shared and used from any thread.
+ *
+ *  <p>
+ *      Supported pattern letters are {@code yyyy} or {@code yy} (years after 2000), {@code MM},
+ *      {@code dd}, {@code HH}, {@code mm} and {@code ss}. A single letter, like {@code d}, accepts
+ *      one or two digits. Any other character must appear as is. Fields that are missing from the
+ *      pattern default to 1970-01-01 00:00:00.
+ *  </p>
+ *
+ *  <p>
+ *      Parsed values are the milliseconds from the epoch of the date and time as written, with
+ *      no time zone applied, see {@link #toMillis(int, int, int, int, int, int)}.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class DateTimeParser {
+
+    /** Returned when the text does not match the pattern or is not a valid date */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    public static final String DEFAULT_PATTERN = "yyyy-MM-dd";
+
+    private static final int LITERAL = 0;
+    private static final int YEAR    = 1;
+    private static final int MONTH   = 2;
+    private static final int DAY     = 3;
+    private static final int HOUR    = 4;
+    private static final int MINUTE  = 5;
+    private static final int SECOND  = 6;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final String pattern;
+    private final int[] kinds;
+    private final int[] widths;
+    private final char[] literals;
+
+
+    /**
+     * @param pattern The pattern the text must follow, such as {@code "dd/MM/yyyy HH:mm"}
+     * @throws IllegalArgumentException If the pattern is empty
+     */
+    public DateTimeParser(String pattern) {
+        if (pattern == null || pattern.isEmpty())
+            throw new IllegalArgumentException("The date pattern can't be empty");
+
+        int count = 0;
+
+        for (int i = 0; i < pattern.length(); i = endOfRun(pattern, i))
+            count++;
+
+        this.pattern  = pattern;
+        this.kinds    = new int[count];
+        this.widths   = new int[count];
+        this.literals = new char[count];
+
+        int token = 0;
+
+        for (int i = 0; i < pattern.length(); token++) {
+            int end = endOfRun(pattern, i);
+
+            kinds[token]    = kindOf(pattern.charAt(i));
+            widths[token]   = end - i;
+            literals[token] = pattern.charAt(i);
+
+            i = end;
+        }
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @param text The text to read
+     * @return The date and time in the text, or {@link #INVALID} if it does not match the pattern
+     *         or is not a valid date
+     */
+    public long parse(CharSequence text) {
+        int position = NumberParser.skipLeadingWhitespace(text);
+        int end = NumberParser.skipTrailingWhitespace(text, position);
+
+        int year = 1970, month = 1, day = 1, hour = 0, minute = 0, second = 0;
+
+        for (int token = 0; token < kinds.length; token++) {
+            int kind = kinds[token];
+            int width = widths[token];
+
+            if (kind == LITERAL) {
+                for (int i = 0; i < width; i++, position++) {
+                    if (position >= end || text.charAt(position) != literals[token])
+                        return INVALID;
+                }
+                continue;
+            }
+
+            // a single letter takes one or two digits, otherwise exactly as many as letters
+            int minDigits = width == 1 ? 1 : width;
+            int maxDigits = width == 1 ? 2 : width;
+            int value = 0;
+            int digits = 0;
+
+            while (digits < maxDigits && position < end) {
+                char c = text.charAt(position);
+
+                if (c < '0' || c > '9')
+                    break;
+
+                value = value * 10 + (c - '0');
+                digits++;
+                position++;
+            }
+
+            if (digits < minDigits)
+                return INVALID;
+
+            switch (kind) {
+                case YEAR:   year   = width == 2 ? 2000 + value : value; break;
+                case MONTH:  month  = value; break;
+                case DAY:    day    = value; break;
+                case HOUR:   hour   = value; break;
+                case MINUTE: minute = value; break;
+                case SECOND: second = value; break;
+            }
+        }
+
+        if (position != end)
+            return INVALID;
+
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59)
+            return INVALID;
+
+        return toMillis(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * @param text The text to read
+     * @return {@code true} if the text matches the pattern and is a valid date
+     */
+    public boolean isValid(CharSequence text) {
+        return parse(text) != INVALID;
+    }
+
+    /**
+     * Converts a date and time to the same scale {@link #parse(CharSequence)} returns, useful to
+     * build range constraints.
+     *
+     * @param month From 1 to 12
+     * @param day From 1 to 31
+     * @return The milliseconds from 1970-01-01 00:00:00 to the given date and time, with no time
+     *         zone applied
+     */
+    public static long toMillis(int year, int month, int day, int hour, int minute, int second) {
+        // days from the civil date, by Howard Hinnant's algorithm
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long days = (long) era * 146097 + dayOfEra - 719468;
+
+        return days * MILLIS_PER_DAY + ((hour * 60L + minute) * 60L + second) * 1000L;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean isLeap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return isLeap ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int endOfRun(String pattern, int start) {
+        char c = pattern.charAt(start);
+        int end = start + 1;
+
+        if (kindOf(c) == LITERAL)
+            return end;
+
+        while (end < pattern.length() && pattern.charAt(end) == c)
+            end++;
+
+        return end;
+    }
+
+    private static int kindOf(char c) {
+        switch (c) {
+            case 'y': return YEAR;
+            case 'M': return MONTH;
+            case 'd': return DAY;
+            case 'H': return HOUR;
+            case 'm': return MINUTE;
+            case 's': return SECOND;
+            default:  return LITERAL;
+        }
+    }
+}
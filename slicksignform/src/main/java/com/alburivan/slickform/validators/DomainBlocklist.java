@@ -0,0 +1,173 @@
+package com.alburivan.slickform.validators;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * (っ･_･)っ
+ *  DomainBlocklist tells whether an email domain is blocked, such as a disposable email
+ *  provider, along with every subdomain of it. The domains are kept in a radix trie of their
+ *  reversed characters, written by {@link DomainBlocklistBuilder} and memory mapped from the
+ *  file, so the list takes no room on the Java heap and shares every common suffix like ".com".
+ *
+ *  <p>
+ *      Lookups walk the domain slice of the input backwards, straight from the CharSequence,
+ *      without substrings or lowercase copies. Lookups are safe from any thread.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class DomainBlocklist {
+
+    /** "SLDB", the first bytes of every blocklist file */
+    static final int MAGIC = 0x534C4442;
+    static final int VERSION = 1;
+
+    /** Magic, version, number of domains and offset of the root node */
+    static final int HEADER_SIZE = 4 + 4 + 4 + 4;
+
+    /** Node flag of the nodes where a blocked domain ends */
+    static final int FLAG_TERMINAL = 1;
+
+    /** Size of a child entry, its first byte and its offset */
+    static final int CHILD_SIZE = 1 + 4;
+
+    private final ByteBuffer buffer;
+    private final int domainCount;
+    private final int rootOffset;
+
+
+    private DomainBlocklist(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IOException("Not a domain blocklist file");
+
+        this.buffer      = buffer;
+        this.domainCount = buffer.getInt(8);
+        this.rootOffset  = buffer.getInt(12);
+
+        if (rootOffset < HEADER_SIZE || rootOffset >= buffer.capacity())
+            throw new IOException("Truncated domain blocklist file");
+    }
+
+    /**
+     * @param file A blocklist file written by {@link DomainBlocklistBuilder}
+     * @return The blocklist, mapped from the file
+     * @throws IOException If the file can't be read or is not a blocklist
+     */
+    public static DomainBlocklist open(File file) throws IOException {
+        return new DomainBlocklist(MappedFiles.map(file));
+    }
+
+    /**
+     * Opens a blocklist bundled in the app's assets, it is copied once into the app's files to
+     * be mapped. Should be called off the main thread the first time.
+     *
+     * @param context The context used to read the assets
+     * @param assetName The name of the blocklist file in the assets
+     * @return The blocklist
+     * @throws IOException If the asset can't be copied or is not a blocklist
+     */
+    public static DomainBlocklist fromAsset(Context context, String assetName) throws IOException {
+        return open(MappedFiles.copyAsset(context, assetName));
+    }
+
+    /**
+     * @param email An email address, its domain is what follows the last '@'
+     * @return {@code true} if the email's domain is blocked
+     */
+    public boolean isBlockedEmail(CharSequence email) {
+        int end = NumberParser.skipTrailingWhitespace(email, 0);
+        int at = end - 1;
+
+        while (at >= 0 && email.charAt(at) != '@')
+            at--;
+
+        return at >= 0 && isBlocked(email, at + 1, end);
+    }
+
+    /**
+     * @param domain The text holding the domain
+     * @param start The index where the domain starts
+     * @param end The index after the domain's last character
+     * @return {@code true} if the domain, or a domain it belongs to, is blocked
+     */
+    public boolean isBlocked(CharSequence domain, int start, int end) {
+        int position = end - 1;
+
+        // a trailing dot, as in "example.com.", names the same domain
+        if (position >= start && domain.charAt(position) == '.')
+            position--;
+
+        int node = rootOffset;
+
+        while (true) {
+            int labelLength = buffer.get(node) & 0xff;
+
+            for (int i = 0; i < labelLength; i++, position--) {
+                if (position < start || toLowerAscii(domain.charAt(position)) != (buffer.get(node + 1 + i) & 0xff))
+                    return false;
+            }
+
+            int header = node + 1 + labelLength;
+            int flags = buffer.get(header) & 0xff;
+
+            // blocked if a listed domain ends here, as a whole label
+            if ((flags & FLAG_TERMINAL) != 0 && (position < start || domain.charAt(position) == '.'))
+                return true;
+
+            if (position < start)
+                return false;
+
+            node = findChild(header + 1, toLowerAscii(domain.charAt(position)));
+
+            if (node < 0)
+                return false;
+        }
+    }
+
+    public int getDomainCount() {
+        return domainCount;
+    }
+
+    /**
+     * @return The size of the mapped file, in bytes
+     */
+    public int getSize() {
+        return buffer.capacity();
+    }
+
+    private int findChild(int childTable, int key) {
+        int low = 0;
+        int high = (buffer.get(childTable) & 0xff) - 1;
+        int entries = childTable + 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = entries + middle * CHILD_SIZE;
+            int value = buffer.get(entry) & 0xff;
+
+            if (value < key)
+                low = middle + 1;
+            else if (value > key)
+                high = middle - 1;
+            else
+                return buffer.getInt(entry + 1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return The lowercase of an ASCII char, or a value no label holds for any other char
+     */
+    static int toLowerAscii(char c) {
+        if (c >= 'A' && c <= 'Z')
+            return c + ('a' - 'A');
+
+        return c < 0x80 ? c : 0x100;
+    }
+}
@@ -0,0 +1,188 @@
+package com.alburivan.slickform.validators;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * (っ･_･)っ
+ *  DomainBlocklistBuilder writes the files read by {@link DomainBlocklist}. It only depends on
+ *  the JDK, so it can be used on a computer, where the {@code DomainBlocklistTool} of the test
+ *  sources builds the file that gets bundled or downloaded. Domains must be ASCII,
+ *  internationalized domains are expected in their punycode form.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class DomainBlocklistBuilder {
+
+    /** The longest domain name DNS allows */
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    private final Node root = new Node();
+    private int domainCount = 0;
+
+
+    /**
+     * @param domain The domain to block, along with its subdomains
+     * @return This DomainBlocklistBuilder instance
+     * @throws IllegalArgumentException If the domain is not ASCII or too long
+     */
+    public DomainBlocklistBuilder add(String domain) {
+        String normalized = domain.trim().toLowerCase(Locale.US);
+
+        if (normalized.startsWith("*."))
+            normalized = normalized.substring(2);
+
+        while (normalized.startsWith("."))
+            normalized = normalized.substring(1);
+
+        while (normalized.endsWith("."))
+            normalized = normalized.substring(0, normalized.length() - 1);
+
+        if (normalized.isEmpty())
+            return this;
+
+        // also keeps every label within the single byte that holds its length
+        if (normalized.length() > MAX_DOMAIN_LENGTH)
+            throw new IllegalArgumentException("Domains can't be longer than " + MAX_DOMAIN_LENGTH + " characters: " + domain);
+
+        Node node = root;
+
+        for (int i = normalized.length() - 1; i >= 0; i--) {
+            char c = normalized.charAt(i);
+
+            if (c >= 0x80)
+                throw new IllegalArgumentException("Domains must be ASCII: " + domain);
+
+            Node child = node.children.get(c);
+
+            if (child == null) {
+                child = new Node();
+                node.children.put(c, child);
+            }
+
+            node = child;
+        }
+
+        if (!node.isTerminal) {
+            node.isTerminal = true;
+            domainCount++;
+        }
+
+        return this;
+    }
+
+    public int getDomainCount() {
+        return domainCount;
+    }
+
+    /**
+     * @param file The file to write the blocklist to, replaced if it exists
+     * @throws IOException If the file can't be written
+     */
+    public void writeTo(File file) throws IOException {
+        Writer writer = new Writer();
+
+        writer.putInt(DomainBlocklist.MAGIC);
+        writer.putInt(DomainBlocklist.VERSION);
+        writer.putInt(domainCount);
+        writer.putInt(DomainBlocklist.HEADER_SIZE);
+
+        writeNode(writer, new StringBuilder(), root);
+
+        OutputStream output = new FileOutputStream(file);
+
+        try {
+            output.write(writer.bytes, 0, writer.size);
+        }
+        finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Writes a node, merging the chain of nodes below it that have a single child and no domain
+     * ending in them into its label.
+     */
+    private int writeNode(Writer writer, StringBuilder label, Node node) {
+        while (!node.isTerminal && node.children.size() == 1) {
+            Map.Entry<Character, Node> only = node.children.firstEntry();
+            label.append(only.getKey().charValue());
+            node = only.getValue();
+        }
+
+        int offset = writer.size;
+
+        writer.putByte(label.length());
+
+        for (int i = 0; i < label.length(); i++)
+            writer.putByte(label.charAt(i));
+
+        writer.putByte(node.isTerminal ? DomainBlocklist.FLAG_TERMINAL : 0);
+        writer.putByte(node.children.size());
+
+        int childTable = writer.size;
+
+        for (Character key : node.children.keySet()) {
+            writer.putByte(key);
+            writer.putInt(0);
+        }
+
+        int index = 0;
+
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            StringBuilder childLabel = new StringBuilder().append(child.getKey().charValue());
+            int childOffset = writeNode(writer, childLabel, child.getValue());
+
+            writer.setInt(childTable + index * DomainBlocklist.CHILD_SIZE + 1, childOffset);
+            index++;
+        }
+
+        return offset;
+    }
+
+    private static final class Node {
+
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        boolean isTerminal = false;
+    }
+
+    /** A growable big endian buffer, matching the reads of {@link ByteBuffer} */
+    private static final class Writer {
+
+        byte[] bytes = new byte[64 * 1024];
+        int size = 0;
+
+        void putByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void putInt(int value) {
+            ensureCapacity(4);
+            setInt(size, value);
+            size += 4;
+        }
+
+        void setInt(int offset, int value) {
+            bytes[offset]     = (byte) (value >>> 24);
+            bytes[offset + 1] = (byte) (value >>> 16);
+            bytes[offset + 2] = (byte) (value >>> 8);
+            bytes[offset + 3] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                byte[] grown = new byte[Math.max(bytes.length * 2, size + extra)];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                bytes = grown;
+            }
+        }
+    }
+}
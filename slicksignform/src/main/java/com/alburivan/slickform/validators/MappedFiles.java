@@ -0,0 +1,139 @@
+package com.alburivan.slickform.validators;
+
+import android.content.Context;
+import android.content.pm.PackageManager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * (っ･_･)っ
+ *  Helpers shared by the structures that are memory mapped from a file, such as
+ *  {@link BloomFilter} and {@link DomainBlocklist}.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+final class MappedFiles {
+
+    private static final String COPY_PREFIX = "slickform_";
+
+    private MappedFiles() {}
+
+    /**
+     * @return The whole file, mapped read only. The mapping stays valid once the file is closed.
+     */
+    static ByteBuffer map(File file) throws IOException {
+        RandomAccessFile input = new RandomAccessFile(file, "r");
+
+        try {
+            FileChannel channel = input.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Assets can't be mapped directly since they may be compressed, so they are copied into the
+     * app's files and mapped from there. The copy is named after the time the app was installed
+     * or updated, so an update that ships a new asset gets a fresh copy, and older copies are
+     * deleted. Mappings of a deleted copy stay valid.
+     *
+     * @return The copy of the asset in the app's files
+     */
+    static synchronized File copyAsset(Context context, String assetName) throws IOException {
+        String name = new File(assetName).getName();
+        File directory = context.getFilesDir();
+        File file = new File(directory, COPY_PREFIX + getLastUpdateTime(context) + "_" + name);
+
+        if (file.exists())
+            return file;
+
+        // a unique name, so another process copying the same asset doesn't write over this copy
+        File temporaryFile = File.createTempFile(COPY_PREFIX, ".tmp", directory);
+        boolean isCopied = false;
+
+        try {
+            InputStream input = context.getAssets().open(assetName);
+
+            try {
+                OutputStream output = new FileOutputStream(temporaryFile);
+
+                try {
+                    byte[] chunk = new byte[16 * 1024];
+                    int read;
+
+                    while ((read = input.read(chunk)) != -1)
+                        output.write(chunk, 0, read);
+                }
+                finally {
+                    output.close();
+                }
+            }
+            finally {
+                input.close();
+            }
+
+            isCopied = temporaryFile.renameTo(file);
+        }
+        finally {
+            // an unfinished copy is never left behind, whatever stopped it
+            if (!isCopied)
+                temporaryFile.delete();
+        }
+
+        // another process may have finished the same copy first
+        if (!isCopied && !file.exists())
+            throw new IOException("Could not copy " + assetName);
+
+        File[] copies = directory.listFiles();
+
+        if (copies != null) {
+            for (File copy : copies) {
+                if (isCopyOf(copy.getName(), name) && !copy.equals(file))
+                    copy.delete();
+            }
+        }
+
+        return file;
+    }
+
+    /**
+     * @return {@code true} if the file is named like a copy of the asset, which is exactly
+     *         "slickform_", a time, "_" and the asset's name. A suffix match would take the copies
+     *         of "passwords.bf" for copies of "breached_passwords.bf" too.
+     */
+    private static boolean isCopyOf(String fileName, String name) {
+        int timeEnd = fileName.length() - name.length() - 1;
+
+        if (!fileName.startsWith(COPY_PREFIX) || !fileName.endsWith(name)
+                || timeEnd <= COPY_PREFIX.length() || fileName.charAt(timeEnd) != '_')
+            return false;
+
+        for (int i = COPY_PREFIX.length(); i < timeEnd; i++) {
+            char c = fileName.charAt(i);
+
+            if (c < '0' || c > '9')
+                return false;
+        }
+
+        return true;
+    }
+
+    private static long getLastUpdateTime(Context context) {
+        try {
+            return context.getPackageManager().getPackageInfo(context.getPackageName(), 0).lastUpdateTime;
+        }
+        catch (PackageManager.NameNotFoundException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.alburivan.slickform.validators;
+
+/**
+ * (っ･_･)っ
+ *  NumberParser reads numbers straight from a CharSequence, such as the Editable of a FormField,
+ *  without creating strings or boxed numbers. Leading and trailing whitespace is ignored, an
+ *  optional sign and a single '.' decimal separator are accepted.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class NumberParser {
+
+    /** Largest mantissa that can still take one more digit without overflowing */
+    private static final long MAX_MANTISSA = (Long.MAX_VALUE - 9) / 10;
+
+    /** Powers of ten that are exact as a double */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+
+    private NumberParser() {}
+
+    /**
+     * @param text The text to read
+     * @return The number in the text, or {@link Double#NaN} if the text is not a number
+     */
+    public static double parseDouble(CharSequence text) {
+        int start = skipLeadingWhitespace(text);
+        int end = skipTrailingWhitespace(text, start);
+
+        if (start == end)
+            return Double.NaN;
+
+        boolean isNegative = false;
+        char c = text.charAt(start);
+
+        if (c == '-' || c == '+') {
+            isNegative = c == '-';
+            start++;
+        }
+
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean isFraction = false;
+
+        for (int i = start; i < end; i++) {
+            c = text.charAt(i);
+
+            if (c == '.' && !isFraction) {
+                isFraction = true;
+                continue;
+            }
+
+            if (c < '0' || c > '9')
+                return Double.NaN;
+
+            digits++;
+
+            // digits beyond the long's precision only move the decimal point
+            if (mantissa <= MAX_MANTISSA) {
+                mantissa = mantissa * 10 + (c - '0');
+
+                if (isFraction)
+                    exponent--;
+            } else if (!isFraction) {
+                exponent++;
+            }
+        }
+
+        if (digits == 0)
+            return Double.NaN;
+
+        double value = exponent < 0 ? mantissa / powerOfTen(-exponent) : mantissa * powerOfTen(exponent);
+
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * @param text The text to read
+     * @param defaultValue The value returned if the text is not an integer or does not fit a long
+     * @return The integer in the text, or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence text, long defaultValue) {
+        int start = skipLeadingWhitespace(text);
+        int end = skipTrailingWhitespace(text, start);
+
+        if (start == end)
+            return defaultValue;
+
+        boolean isNegative = false;
+        char c = text.charAt(start);
+
+        if (c == '-' || c == '+') {
+            isNegative = c == '-';
+            start++;
+        }
+
+        if (start == end)
+            return defaultValue;
+
+        // accumulated as a negative number, since it has one more value than the positive range
+        long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            c = text.charAt(i);
+
+            if (c < '0' || c > '9')
+                return defaultValue;
+
+            int digit = c - '0';
+
+            if (value < limit / 10)
+                return defaultValue;
+
+            value *= 10;
+
+            if (value < limit + digit)
+                return defaultValue;
+
+            value -= digit;
+        }
+
+        return isNegative ? value : -value;
+    }
+
+    /**
+     * @param text The text to read
+     * @return {@code true} if the text holds a number {@link #parseDouble(CharSequence)} can read
+     */
+    public static boolean isNumber(CharSequence text) {
+        return !Double.isNaN(parseDouble(text));
+    }
+
+    static int skipLeadingWhitespace(CharSequence text) {
+        int start = 0;
+
+        while (start < text.length() && Character.isWhitespace(text.charAt(start)))
+            start++;
+
+        return start;
+    }
+
+    static int skipTrailingWhitespace(CharSequence text, int start) {
+        int end = text.length();
+
+        while (end > start && Character.isWhitespace(text.charAt(end - 1)))
+            end--;
+
+        return end;
+    }
+
+    private static double powerOfTen(int exponent) {
+        return exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[exponent] : Math.pow(10, exponent);
+    }
+}
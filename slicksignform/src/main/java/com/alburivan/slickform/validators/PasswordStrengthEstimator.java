@@ -0,0 +1,345 @@
+package com.alburivan.slickform.validators;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * (っ･_･)っ
+ *  PasswordStrengthEstimator estimates how many guesses a password would take, as bits, and
+ *  turns them into a score from 0 (too guessable) to 4 (very unguessable). The password is split
+ *  into the cheapest mix of dictionary words, repeats, sequences like "abc" or "321", keyboard
+ *  patterns like "qwerty", and plain characters.
+ *
+ *  <p>
+ *      The estimate is incremental: the work done for every position only depends on the text
+ *      before it, so when the text changes only the positions after the unchanged prefix are
+ *      looked at again. Typing a character costs a walk of the dictionary no longer than its
+ *      longest word.
+ *  </p>
+ *
+ *  <p>
+ *      Each FormField should have its own estimator, the dictionary can be shared. Estimating is
+ *      synchronized, so it can be done from a background thread for long inputs.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class PasswordStrengthEstimator {
+
+    /** Inputs at least this long are better estimated off the main thread */
+    public static final int LONG_INPUT_LENGTH = 64;
+
+    public static final int SCORE_TOO_GUESSABLE      = 0;
+    public static final int SCORE_VERY_GUESSABLE     = 1;
+    public static final int SCORE_SOMEWHAT_GUESSABLE = 2;
+    public static final int SCORE_SAFELY_UNGUESSABLE = 3;
+    public static final int SCORE_VERY_UNGUESSABLE   = 4;
+
+    /** Bits needed to reach each score, that is 10^3, 10^6, 10^8 and 10^10 guesses */
+    private static final double[] SCORE_BITS = { 9.97, 19.93, 26.58, 33.22 };
+
+    private static final double LOWER_BITS    = 4.70;
+    private static final double UPPER_BITS    = 5.70;
+    private static final double DIGIT_BITS    = 3.32;
+    private static final double SYMBOL_BITS   = 5.04;
+    private static final double UNICODE_BITS  = 7.00;
+    private static final double KEYBOARD_BITS = 5.55;
+
+    private static final String[] KEYBOARD_ROWS = {
+            "`1234567890-=",
+            "qwertyuiop[]\\",
+            "asdfghjkl;'",
+            "zxcvbnm,./"
+    };
+
+    /** Row and column of every key, packed as row * 256 + column, or -1 */
+    private static final int[] KEY_POSITIONS = new int[128];
+
+    static {
+        Arrays.fill(KEY_POSITIONS, -1);
+
+        for (int row = 0; row < KEYBOARD_ROWS.length; row++) {
+            for (int column = 0; column < KEYBOARD_ROWS[row].length(); column++)
+                KEY_POSITIONS[KEYBOARD_ROWS[row].charAt(column)] = row * 256 + column;
+        }
+    }
+
+    private static Dictionary defaultDictionary;
+
+    private final Dictionary dictionary;
+    private char[] chars          = new char[32];
+    private double[] bits         = new double[33];
+    private int[] runLengths      = new int[32];
+    private int[] sequenceLengths = new int[32];
+    private int[] sequenceDeltas  = new int[32];
+    private int[] keyboardLengths = new int[32];
+    private int length            = 0;
+
+
+    /**
+     * Creates an estimator with a small built-in dictionary of the most common passwords.
+     */
+    public PasswordStrengthEstimator() {
+        this(getDefaultDictionary());
+    }
+
+    /**
+     * @param dictionary The words to look for, it can be shared by many estimators
+     */
+    public PasswordStrengthEstimator(Dictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * @param text The password
+     * @return The score of the password, from {@link #SCORE_TOO_GUESSABLE} to
+     *         {@link #SCORE_VERY_UNGUESSABLE}
+     */
+    public synchronized int estimate(CharSequence text) {
+        return toScore(estimateBits(text));
+    }
+
+    /**
+     * @param text The password
+     * @return The estimated number of guesses of the password, as bits
+     */
+    public synchronized double estimateBits(CharSequence text) {
+        int newLength = text.length();
+        int unchanged = 0;
+
+        while (unchanged < length && unchanged < newLength && chars[unchanged] == text.charAt(unchanged))
+            unchanged++;
+
+        ensureCapacity(newLength);
+
+        for (int i = unchanged; i < newLength; i++) {
+            chars[i] = text.charAt(i);
+            updatePosition(i);
+        }
+
+        length = newLength;
+        return bits[length];
+    }
+
+    /**
+     * @param bits An estimate returned by {@link #estimateBits(CharSequence)}
+     * @return The matching score
+     */
+    public static int toScore(double bits) {
+        int score = 0;
+
+        while (score < SCORE_BITS.length && bits >= SCORE_BITS[score])
+            score++;
+
+        return score;
+    }
+
+    /**
+     * Finds the patterns that end at the given position, then keeps the cheapest way to guess
+     * the text up to it.
+     */
+    private void updatePosition(int i) {
+        char c = chars[i];
+        char previous = i > 0 ? chars[i - 1] : 0;
+
+        runLengths[i] = i > 0 && c == previous ? runLengths[i - 1] + 1 : 1;
+
+        int delta = c - previous;
+
+        if (i > 0 && (delta == 1 || delta == -1) && Character.isLetterOrDigit(c) && Character.isLetterOrDigit(previous)) {
+            sequenceLengths[i] = i > 1 && sequenceDeltas[i - 1] == delta ? sequenceLengths[i - 1] + 1 : 2;
+            sequenceDeltas[i] = delta;
+        } else {
+            sequenceLengths[i] = 1;
+            sequenceDeltas[i] = 0;
+        }
+
+        keyboardLengths[i] = i > 0 && isKeyboardAdjacent(previous, c) ? keyboardLengths[i - 1] + 1 : 1;
+
+        // a plain character is always an option
+        double best = bits[i] + charBits(c);
+
+        int run = runLengths[i];
+        if (run >= 2)
+            best = Math.min(best, bits[i - run + 1] + charBits(c) + log2(run));
+
+        int sequence = sequenceLengths[i];
+        if (sequence >= 3)
+            best = Math.min(best, bits[i - sequence + 1] + charBits(chars[i - sequence + 1]) + log2(sequence) + 1);
+
+        int keyboard = keyboardLengths[i];
+        if (keyboard >= 3)
+            best = Math.min(best, bits[i - keyboard + 1] + KEYBOARD_BITS + log2(keyboard) + 1);
+
+        // dictionary words ending here, walking backwards through the reversed words
+        int node = Dictionary.ROOT;
+        int stop = Math.max(0, i - dictionary.maxWordLength + 1);
+
+        for (int j = i; j >= stop; j--) {
+            node = dictionary.child(node, Character.toLowerCase(chars[j]));
+
+            if (node < 0)
+                break;
+
+            int rank = dictionary.ranks[node];
+
+            if (rank > 0)
+                best = Math.min(best, bits[j] + log2(rank) + 1);
+        }
+
+        bits[i + 1] = best;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= chars.length)
+            return;
+
+        int newCapacity = Math.max(capacity, chars.length * 2);
+
+        chars           = Arrays.copyOf(chars, newCapacity);
+        bits            = Arrays.copyOf(bits, newCapacity + 1);
+        runLengths      = Arrays.copyOf(runLengths, newCapacity);
+        sequenceLengths = Arrays.copyOf(sequenceLengths, newCapacity);
+        sequenceDeltas  = Arrays.copyOf(sequenceDeltas, newCapacity);
+        keyboardLengths = Arrays.copyOf(keyboardLengths, newCapacity);
+    }
+
+    private static double charBits(char c) {
+        if (c >= 'a' && c <= 'z')
+            return LOWER_BITS;
+        if (c >= 'A' && c <= 'Z')
+            return UPPER_BITS;
+        if (c >= '0' && c <= '9')
+            return DIGIT_BITS;
+
+        return c < 0x80 ? SYMBOL_BITS : UNICODE_BITS;
+    }
+
+    private static boolean isKeyboardAdjacent(char a, char b) {
+        a = Character.toLowerCase(a);
+        b = Character.toLowerCase(b);
+
+        if (a == b || a >= 128 || b >= 128 || KEY_POSITIONS[a] < 0 || KEY_POSITIONS[b] < 0)
+            return false;
+
+        int rowDistance = Math.abs(KEY_POSITIONS[a] / 256 - KEY_POSITIONS[b] / 256);
+        int columnDistance = Math.abs(KEY_POSITIONS[a] % 256 - KEY_POSITIONS[b] % 256);
+
+        return rowDistance <= 1 && columnDistance <= 1;
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static synchronized Dictionary getDefaultDictionary() {
+        if (defaultDictionary == null) {
+            defaultDictionary = Dictionary.of(
+                    "password", "123456", "12345678", "qwerty", "abc123", "monkey", "letmein",
+                    "dragon", "111111", "baseball", "iloveyou", "trustno1", "sunshine", "master",
+                    "welcome", "shadow", "ashley", "football", "jesus", "michael", "ninja",
+                    "mustang", "login", "admin", "princess", "starwars", "whatever", "freedom",
+                    "hello", "charlie", "donald", "secret", "summer", "winter", "love", "pass",
+                    "superman", "batman", "google", "computer", "internet", "soccer", "hockey",
+                    "killer", "pepper", "jordan", "hunter", "ranger", "buster", "thomas",
+                    "tigger", "robert", "daniel", "andrew", "joshua", "matrix", "cookie",
+                    "flower", "purple", "orange", "banana", "chocolate", "angel", "lovely",
+                    "family", "forever", "user", "test", "guest", "root", "default", "changeme");
+        }
+
+        return defaultDictionary;
+    }
+
+    /**
+     * An immutable trie of reversed words and their rank, the most common word being ranked 1.
+     * The nodes are kept in flat arrays, as first child and next sibling links.
+     */
+    public static final class Dictionary {
+
+        static final int ROOT = 0;
+
+        private final char[] keys;
+        private final int[] firstChildren;
+        private final int[] nextSiblings;
+        final int[] ranks;
+        final int maxWordLength;
+
+        private Dictionary(char[] keys, int[] firstChildren, int[] nextSiblings, int[] ranks, int maxWordLength) {
+            this.keys = keys;
+            this.firstChildren = firstChildren;
+            this.nextSiblings = nextSiblings;
+            this.ranks = ranks;
+            this.maxWordLength = maxWordLength;
+        }
+
+        /**
+         * @param rankedWords The words, from the most to the least common
+         * @return The dictionary
+         */
+        public static Dictionary of(String... rankedWords) {
+            int capacity = 1;
+
+            for (String word : rankedWords)
+                capacity += word.length();
+
+            char[] keys = new char[capacity];
+            int[] firstChildren = new int[capacity];
+            int[] nextSiblings = new int[capacity];
+            int[] ranks = new int[capacity];
+            int nodeCount = 1;
+            int maxWordLength = 0;
+
+            Arrays.fill(firstChildren, -1);
+            Arrays.fill(nextSiblings, -1);
+
+            for (int rank = 0; rank < rankedWords.length; rank++) {
+                String word = rankedWords[rank].toLowerCase(Locale.US);
+                int node = ROOT;
+
+                for (int i = word.length() - 1; i >= 0; i--) {
+                    char c = word.charAt(i);
+                    int child = firstChildren[node];
+
+                    while (child >= 0 && keys[child] != c)
+                        child = nextSiblings[child];
+
+                    if (child < 0) {
+                        child = nodeCount++;
+                        keys[child] = c;
+                        nextSiblings[child] = firstChildren[node];
+                        firstChildren[node] = child;
+                    }
+
+                    node = child;
+                }
+
+                // keep the best rank of duplicated words
+                if (node != ROOT && ranks[node] == 0)
+                    ranks[node] = rank + 1;
+
+                maxWordLength = Math.max(maxWordLength, word.length());
+            }
+
+            return new Dictionary(
+                    Arrays.copyOf(keys, nodeCount),
+                    Arrays.copyOf(firstChildren, nodeCount),
+                    Arrays.copyOf(nextSiblings, nodeCount),
+                    Arrays.copyOf(ranks, nodeCount),
+                    maxWordLength);
+        }
+
+        int child(int node, char c) {
+            int child = firstChildren[node];
+
+            while (child >= 0 && keys[child] != c)
+                child = nextSiblings[child];
+
+            return child;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+    }
+}
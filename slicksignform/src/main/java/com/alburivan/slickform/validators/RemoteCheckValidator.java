@@ -0,0 +1,415 @@
+package com.alburivan.slickform.validators;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.text.Editable;
+import android.text.TextWatcher;
+
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.IRemoteCheckTransport;
+import com.alburivan.slickform.interfaces.IValidationRule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * (っ･_･)っ
+ *  RemoteCheckValidator is a validation rule for values that must be checked against a server,
+ *  like the availability of a username or an email. It keeps the number of requests down:
+ *
+ *  <ul>
+ *      <li>Keystrokes of an attached field are debounced, and the check starts while the user
+ *      is still on the field.</li>
+ *      <li>Identical checks in flight are coalesced into a single request.</li>
+ *      <li>Answers are kept in an LRU cache until they expire.</li>
+ *      <li>A check for a value the user already changed is cancelled.</li>
+ *  </ul>
+ *
+ *  <p>
+ *      On the main thread {@link #validate(FormField)} never blocks: it answers from the cache,
+ *      or returns {@link #withAcceptWhilePending(boolean)} while the answer is not known yet. A
+ *      SlickForm doesn't show the field as invalid in that case, it waits for the answer through
+ *      {@link #whenAnswered(FormField, Runnable)} and submits the field again. Off the main
+ *      thread, such as in {@link com.alburivan.slickform.SlickForm#validateAll}, it waits for the
+ *      answer.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class RemoteCheckValidator implements IValidationRule {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+    public static final long DEFAULT_CACHE_TTL_MILLIS = 5 * 60 * 1000;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 10 * 1000;
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    /**
+     * Runs the checks of every RemoteCheckValidator built without an executor. It is not shared
+     * with {@link com.alburivan.slickform.SlickForm#validateAll}, whose threads wait for these
+     * checks, and it grows as needed, so a waiting validation never holds up its own check.
+     */
+    private static ExecutorService defaultExecutor;
+
+    private final IRemoteCheckTransport transport;
+    private final Executor executor;
+    private final Handler uiHandler = new Handler(Looper.getMainLooper());
+    private final HashMap<String, Request> inFlight = new HashMap<>();
+    private final LinkedHashMap<String, Answer> cache;
+
+    private long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+    private long cacheTtlMillis = DEFAULT_CACHE_TTL_MILLIS;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private boolean isAcceptedWhilePending = false;
+    private Request latestRequest;
+
+    private int requestCount = 0;
+    private int cacheHitCount = 0;
+    private int coalescedCount = 0;
+    private int cancelledCount = 0;
+
+
+    /**
+     * @param transport Does the actual check, on threads of its own
+     */
+    public RemoteCheckValidator(IRemoteCheckTransport transport) {
+        this(transport, getDefaultExecutor(), DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param transport Does the actual check
+     * @param executor Runs the checks. Validations off the main thread wait for them, so it
+     *                 must not be the executor those validations run on, like
+     *                 {@link android.os.AsyncTask#THREAD_POOL_EXECUTOR} for
+     *                 {@link com.alburivan.slickform.SlickForm#validateAll}
+     * @param cacheSize The maximum number of answers kept
+     */
+    public RemoteCheckValidator(IRemoteCheckTransport transport, Executor executor, final int cacheSize) {
+        this.transport = transport;
+        this.executor = executor;
+        this.cache = new LinkedHashMap<String, Answer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Answer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @param millis How long the user must stop typing before an attached field is checked
+     * @return This RemoteCheckValidator instance
+     */
+    public RemoteCheckValidator withDebounce(long millis) {
+        this.debounceMillis = millis;
+        return this;
+    }
+
+    /**
+     * @param millis How long an answer is kept in the cache
+     * @return This RemoteCheckValidator instance
+     */
+    public RemoteCheckValidator withCacheTtl(long millis) {
+        this.cacheTtlMillis = millis;
+        return this;
+    }
+
+    /**
+     * @param millis How long a validation off the main thread waits for the answer, it fails
+     *               if the time runs out
+     * @return This RemoteCheckValidator instance
+     */
+    public RemoteCheckValidator withTimeout(long millis) {
+        this.timeoutMillis = millis;
+        return this;
+    }
+
+    /**
+     * @param state {@code true} to let the field pass on the main thread while its answer is
+     *              not known yet, so a taken value passes if it is submitted before its answer
+     *              arrives. Only use it if the server checks the value again on submit. The
+     *              default is {@code false}, which makes the form wait for the answer.
+     * @return This RemoteCheckValidator instance
+     */
+    public RemoteCheckValidator withAcceptWhilePending(boolean state) {
+        this.isAcceptedWhilePending = state;
+        return this;
+    }
+
+    /**
+     * Checks the field in the background as the user types, so the answer is usually cached by
+     * the time the field is submitted. Must be called from the main thread.
+     *
+     * @param field The field to watch
+     * @return This RemoteCheckValidator instance
+     */
+    public RemoteCheckValidator attachTo(final FormField field) {
+        final Runnable debouncedCheck = new Runnable() {
+            @Override
+            public void run() {
+                prefetch(field.getRawText().toString());
+            }
+        };
+
+        field.getInputField().addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                uiHandler.removeCallbacks(debouncedCheck);
+                uiHandler.postDelayed(debouncedCheck, debounceMillis);
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Starts checking the value unless it is cached or already being checked. A previous check
+     * started this way for a different value is cancelled, since that value is stale.
+     *
+     * @param value The value to check
+     */
+    public void prefetch(String value) {
+        String key = value.trim();
+
+        if (key.isEmpty() || getCachedAnswer(key) != null)
+            return;
+
+        requestLatest(key);
+    }
+
+    /**
+     * Runs the callback on the main thread once the check of the field's current value is
+     * answered, so the field can be validated again. Must be called from the main thread.
+     *
+     * @param field The field whose value is being checked
+     * @param callback The callback to run
+     * @return {@code true} if the value is being checked and the callback will run, {@code false}
+     *         if there is nothing to wait for
+     */
+    public boolean whenAnswered(FormField field, Runnable callback) {
+        String key = field.getRawText().toString().trim();
+        Request request;
+
+        synchronized (this) {
+            request = inFlight.get(key);
+        }
+
+        return request != null && request.addCallback(callback);
+    }
+
+    @Override
+    public boolean validate(FormField field) {
+        String key = field.getRawText().toString().trim();
+
+        // an empty value is left to the other rules of the field
+        if (key.isEmpty())
+            return true;
+
+        Boolean answer = getCachedAnswer(key);
+
+        if (answer != null)
+            return answer;
+
+        // the main thread validates the value the user is on, so any other check is stale, while
+        // off the main thread several fields may be validated at once
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            requestLatest(key);
+            return isAcceptedWhilePending;
+        }
+
+        return request(key).await(timeoutMillis);
+    }
+
+    @Override
+    public int getCost() {
+        return Rules.COST_REMOTE;
+    }
+
+    /** Drops every cached answer */
+    public synchronized void clearCache() {
+        cache.clear();
+    }
+
+    /** @return The number of requests that reached the transport */
+    public synchronized int getRequestCount() {
+        return requestCount;
+    }
+
+    /** @return The number of checks answered by the cache */
+    public synchronized int getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /** @return The number of checks that joined a request already in flight */
+    public synchronized int getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /** @return The number of requests cancelled because their value was stale */
+    public synchronized int getCancelledCount() {
+        return cancelledCount;
+    }
+
+    private static synchronized Executor getDefaultExecutor() {
+        if (defaultExecutor == null)
+            defaultExecutor = Executors.newCachedThreadPool();
+
+        return defaultExecutor;
+    }
+
+    private synchronized Boolean getCachedAnswer(String key) {
+        Answer answer = cache.get(key);
+
+        if (answer == null)
+            return null;
+
+        if (SystemClock.elapsedRealtime() - answer.time > cacheTtlMillis) {
+            cache.remove(key);
+            return null;
+        }
+
+        cacheHitCount++;
+        return answer.isAccepted;
+    }
+
+    private synchronized Request request(String key) {
+        Request request = inFlight.get(key);
+
+        if (request != null) {
+            coalescedCount++;
+            return request;
+        }
+
+        request = new Request(key);
+        inFlight.put(key, request);
+        requestCount++;
+
+        executor.execute(request.task);
+        return request;
+    }
+
+    private synchronized Request requestLatest(String key) {
+        Request request = request(key);
+
+        if (latestRequest != null && latestRequest != request)
+            cancel(latestRequest);
+
+        latestRequest = request;
+        return request;
+    }
+
+    private synchronized void cancel(Request request) {
+        if (inFlight.get(request.key) != request)
+            return;
+
+        inFlight.remove(request.key);
+        cancelledCount++;
+
+        request.task.cancel(true);
+        request.finish(false);
+    }
+
+    private synchronized void complete(Request request, boolean isAccepted) {
+        if (inFlight.get(request.key) == request) {
+            inFlight.remove(request.key);
+            cache.put(request.key, new Answer(isAccepted, SystemClock.elapsedRealtime()));
+        }
+
+        if (latestRequest == request)
+            latestRequest = null;
+    }
+
+    private synchronized void fail(Request request) {
+        if (inFlight.get(request.key) == request)
+            inFlight.remove(request.key);
+
+        if (latestRequest == request)
+            latestRequest = null;
+    }
+
+    private final class Request implements Callable<Boolean> {
+
+        final String key;
+        final FutureTask<Boolean> task = new FutureTask<>(this);
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final List<Runnable> callbacks = new ArrayList<>(1);
+        private volatile boolean isAccepted = false;
+
+        Request(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Boolean call() {
+            try {
+                boolean answer = transport.check(key);
+                complete(this, answer);
+                finish(answer);
+            }
+            catch (Exception e) {
+                fail(this);
+                finish(false);
+            }
+
+            return isAccepted;
+        }
+
+        synchronized void finish(boolean answer) {
+            if (done.getCount() == 0)
+                return;
+
+            isAccepted = answer;
+            done.countDown();
+
+            for (Runnable callback : callbacks)
+                uiHandler.post(callback);
+
+            callbacks.clear();
+        }
+
+        synchronized boolean addCallback(Runnable callback) {
+            if (done.getCount() == 0)
+                return false;
+
+            callbacks.add(callback);
+            return true;
+        }
+
+        boolean await(long millis) {
+            try {
+                return done.await(millis, TimeUnit.MILLISECONDS) && isAccepted;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static final class Answer {
+
+        final boolean isAccepted;
+        final long time;
+
+        Answer(boolean isAccepted, long time) {
+            this.isAccepted = isAccepted;
+            this.time = time;
+        }
+    }
+}
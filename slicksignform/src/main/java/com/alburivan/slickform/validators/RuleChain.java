@@ -0,0 +1,161 @@
+package com.alburivan.slickform.validators;
+
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.IValidationRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * (っ･_･)っ
+ *  RuleChain runs the rules of a FormField until the first one fails. Rules are ordered by the
+ *  order of magnitude of their estimated cost, so expensive rules, like remote checks, only run
+ *  once every cheaper rule has passed. Within the same order of magnitude, the chain keeps track
+ *  of how often each rule fails, so the order adapts to put first the rules that reject the most
+ *  for the least cost.
+ *
+ *  <p>
+ *      A chain can be validated from several threads at once, as
+ *      {@link com.alburivan.slickform.SlickForm#validateAll} does. The rules run outside of any
+ *      lock, reorders publish a new copy of the chain that validations already running don't
+ *      see.
+ *  </p>
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class RuleChain {
+
+    /** Number of validations between two reorders of the chain */
+    private static final int REORDER_INTERVAL = 16;
+
+    private volatile Entry[] entries = new Entry[0];
+    private final AtomicInteger validationCount = new AtomicInteger(0);
+
+
+    /**
+     * @param rule The rule to add, placed before every rule that costs more
+     * @return This RuleChain instance
+     */
+    public synchronized RuleChain add(IValidationRule rule) {
+        Entry[] chain = Arrays.copyOf(entries, entries.length + 1);
+        chain[chain.length - 1] = new Entry(rule);
+        entries = sorted(chain);
+        return this;
+    }
+
+    /**
+     * @param field The field to validate
+     * @return {@code true} if the field passes every rule
+     */
+    public boolean validate(FormField field) {
+        return findFailingRule(field) == null;
+    }
+
+    /**
+     * Validates the field like {@link #validate(FormField)}, telling which rule stopped the chain.
+     * Every rule before it passed, so it is the only reason the field failed.
+     *
+     * @param field The field to validate
+     * @return The first rule the field fails, or {@code null} if it passes every rule
+     */
+    public IValidationRule findFailingRule(FormField field) {
+        Entry[] chain = entries;
+        IValidationRule failingRule = null;
+
+        for (Entry entry : chain) {
+            entry.runs.incrementAndGet();
+
+            if (!entry.rule.validate(field)) {
+                entry.failures.incrementAndGet();
+                failingRule = entry.rule;
+                break;
+            }
+        }
+
+        if (validationCount.incrementAndGet() % REORDER_INTERVAL == 0)
+            reorder();
+
+        return failingRule;
+    }
+
+    /**
+     * @return The rules, in the order they are run right now
+     */
+    public List<IValidationRule> getRules() {
+        Entry[] chain = entries;
+        List<IValidationRule> rules = new ArrayList<>(chain.length);
+
+        for (Entry entry : chain)
+            rules.add(entry.rule);
+
+        return rules;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Sorts the rules by their cost tier, then by their cost over their chance to fail, which is
+     * the order that makes a failing chain stop the soonest on average. The sorted copy replaces
+     * the chain at once, an insertion sort is enough since the chain is short and almost sorted
+     * already.
+     *
+     * <p>
+     *     Every reorder allocates that copy, once every {@link #REORDER_INTERVAL} validations,
+     *     so the validations already running keep the chain they started with.
+     * </p>
+     */
+    private synchronized void reorder() {
+        entries = sorted(entries.clone());
+    }
+
+    /** Must be called while holding the chain's lock, which guards the entries' sort scores */
+    private static Entry[] sorted(Entry[] chain) {
+        // scores keep changing while other threads validate, so each one is read once
+        for (Entry entry : chain)
+            entry.sortScore = entry.getScore();
+
+        for (int i = 1; i < chain.length; i++) {
+            Entry entry = chain[i];
+            int j = i - 1;
+
+            while (j >= 0 && chain[j].sortsAfter(entry)) {
+                chain[j + 1] = chain[j];
+                j--;
+            }
+
+            chain[j + 1] = entry;
+        }
+
+        return chain;
+    }
+
+    private static final class Entry {
+
+        final IValidationRule rule;
+        final int tier;
+        final AtomicInteger runs = new AtomicInteger(0);
+        final AtomicInteger failures = new AtomicInteger(0);
+        double sortScore;
+
+        Entry(IValidationRule rule) {
+            this.rule = rule;
+            // a failure rate can move a rule within its order of magnitude, never past it
+            this.tier = (int) Math.floor(Math.log10(Math.max(1, rule.getCost())));
+        }
+
+        double getScore() {
+            // smoothed, so rules that never ran or never failed still keep a sensible place
+            double failureRate = (failures.get() + 1.0) / (runs.get() + 2.0);
+            return Math.max(1, rule.getCost()) / failureRate;
+        }
+
+        boolean sortsAfter(Entry other) {
+            return tier > other.tier || (tier == other.tier && sortScore > other.sortScore);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.alburivan.slickform.validators;
+
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.IOnCustomValidation;
+import com.alburivan.slickform.interfaces.IValidationRule;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * (っ･_･)っ
+ *  Rules holds the built-in validation rules that can be chained on a FormField, along with the
+ *  reference costs used to order them.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class Rules {
+
+    /** Cost of rules that only look at the text's length or characters */
+    public static final int COST_CHEAP  = 1;
+
+    /** Cost of rules that go through a lookup table */
+    public static final int COST_LOOKUP = 5;
+
+    /** Cost of rules that match a regular expression */
+    public static final int COST_REGEX  = 20;
+
+    /** Default cost of custom rules */
+    public static final int COST_CUSTOM = 100;
+
+    /** Cost of rules that go to disk or to the network */
+    public static final int COST_REMOTE = 10000;
+
+
+    private Rules() {}
+
+    /**
+     * @param min The minimum number of characters, ignoring surrounding whitespace
+     * @param max The maximum number of characters, ignoring surrounding whitespace
+     */
+    public static IValidationRule length(final int min, final int max) {
+        return new IValidationRule() {
+            @Override
+            public boolean validate(FormField field) {
+                CharSequence text = field.getRawText();
+                int start = NumberParser.skipLeadingWhitespace(text);
+                int length = NumberParser.skipTrailingWhitespace(text, start) - start;
+
+                return length >= min && length <= max;
+            }
+
+            @Override
+            public int getCost() {
+                return COST_CHEAP;
+            }
+        };
+    }
+
+    /**
+     * @param pattern The expression the whole text must match
+     */
+    public static IValidationRule pattern(final Pattern pattern) {
+        return new IValidationRule() {
+            @Override
+            public boolean validate(FormField field) {
+                return pattern.matcher(field.getRawText()).matches();
+            }
+
+            @Override
+            public int getCost() {
+                return COST_REGEX;
+            }
+        };
+    }
+
+    /**
+     * @param values The values that are not accepted, compared ignoring case and surrounding
+     *               whitespace
+     */
+    public static IValidationRule blocklist(String... values) {
+        final HashSet<String> blocked = new HashSet<>(values.length * 2);
+
+        for (String value : values)
+            blocked.add(value.trim().toLowerCase(Locale.US));
+
+        return new IValidationRule() {
+            @Override
+            public boolean validate(FormField field) {
+                return !blocked.contains(field.getRawText().toString().trim().toLowerCase(Locale.US));
+            }
+
+            @Override
+            public int getCost() {
+                return COST_LOOKUP;
+            }
+        };
+    }
+
+    /**
+     * @param callback The custom validation to run as part of the chain
+     */
+    public static IValidationRule custom(IOnCustomValidation callback) {
+        return custom(callback, COST_CUSTOM);
+    }
+
+    /**
+     * @param callback The custom validation to run as part of the chain
+     * @param cost The estimated cost of the callback, such as {@link #COST_REMOTE}
+     */
+    public static IValidationRule custom(final IOnCustomValidation callback, final int cost) {
+        return new IValidationRule() {
+            @Override
+            public boolean validate(FormField field) {
+                return callback.withCustomValidation(field);
+            }
+
+            @Override
+            public int getCost() {
+                return cost;
+            }
+        };
+    }
+}
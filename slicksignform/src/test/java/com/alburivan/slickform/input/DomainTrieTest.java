@@ -0,0 +1,115 @@
+package com.alburivan.slickform.input;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * (っ･_･)っ
+ *  Checks the completions and typo corrections DomainTrie offers, and how it reads a domain
+ *  list.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class DomainTrieTest {
+
+    private final DomainTrie trie = DomainTrie.of("gmail.com", "hotmail.com", "googlemail.com", "gmx.com", "hotmail.co.uk");
+
+
+    @After
+    public void tearDown() {
+        DomainTrie.setDefault(null);
+    }
+
+    @Test
+    public void completesWithTheMostUsedDomain() {
+        assertEquals("gmail.com", complete("g"));
+        assertEquals("gmail.com", complete("gm"));
+        assertEquals("gmx.com", complete("gmx"));
+        assertEquals("googlemail.com", complete("go"));
+        assertEquals("hotmail.com", complete("hotmail.co"));
+        assertEquals("hotmail.co.uk", complete("hotmail.co."));
+    }
+
+    @Test
+    public void completesIgnoringCase() {
+        assertEquals("hotmail.com", complete("HoT"));
+    }
+
+    @Test
+    public void doesNotCompleteUnknownPrefixes() {
+        assertEquals(-1, trie.complete("yahoo", 0, 5));
+        assertEquals(-1, trie.complete("gmail.comx", 0, 10));
+        assertEquals(-1, trie.complete("", 0, 0));
+    }
+
+    @Test
+    public void completesASliceOfTheText() {
+        String email = "jane@gm";
+
+        assertEquals("gmail.com", trie.get(trie.complete(email, 5, email.length())));
+    }
+
+    @Test
+    public void correctsDomainsOneEditAway() {
+        assertEquals("gmail.com", correct("gmial.com"));
+        assertEquals("gmail.com", correct("gmail.con"));
+        assertEquals("gmail.com", correct("gmai.com"));
+        assertEquals("gmail.com", correct("gmaill.com"));
+        assertEquals("hotmail.com", correct("hotmali.com"));
+    }
+
+    @Test
+    public void leavesKnownAndDistantDomainsAlone() {
+        assertEquals(-1, trie.correct("gmx.com", 0, 7));
+        assertEquals(-1, trie.correct("GMAIL.com", 0, 9));
+        assertEquals(-1, trie.correct("example.org", 0, 11));
+    }
+
+    @Test
+    public void readsCountsAndKeepsTheOrderOfTheRest() throws IOException {
+        DomainTrie trie = DomainTrie.fromReader(new StringReader(
+                "# provider, count\n"
+                        + "yahoo.com, 10\n"
+                        + "\n"
+                        + "ymail.com 50\n"
+                        + "Yandex.ru\n"
+                        + "yahoo.com\n"));
+
+        assertEquals(3, trie.size());
+        assertEquals("ymail.com", trie.get(trie.complete("y", 0, 1)));
+        assertEquals("yahoo.com", trie.get(trie.complete("ya", 0, 2)));
+        assertEquals("yandex.ru", trie.get(trie.complete("yan", 0, 3)));
+        assertEquals(50, trie.getFrequency(0));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsInvalidCounts() throws IOException {
+        DomainTrie.fromReader(new StringReader("gmail.com, many\n"));
+    }
+
+    @Test
+    public void defaultCanBeReplaced() {
+        DomainTrie builtIn = DomainTrie.getDefault();
+
+        DomainTrie.setDefault(trie);
+        assertSame(trie, DomainTrie.getDefault());
+
+        DomainTrie.setDefault(null);
+        assertEquals(builtIn.size(), DomainTrie.getDefault().size());
+    }
+
+    private String complete(String typed) {
+        return trie.get(trie.complete(typed, 0, typed.length()));
+    }
+
+    private String correct(String typed) {
+        return trie.get(trie.correct(typed, 0, typed.length()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.alburivan.slickform.input;
+
+import android.text.Editable;
+import android.text.Selection;
+import android.widget.EditText;
+
+import com.alburivan.slickform.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * (っ･_･)っ
+ *  Checks the completions EmailAutocomplete makes on a real EditText, typing each character
+ *  over the selection as a keyboard does.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class EmailAutocompleteTest {
+
+    private EditText input;
+
+
+    @Before
+    public void setUp() {
+        input = new EditText(RuntimeEnvironment.application);
+        Selection.setSelection(input.getText(), 0);
+        new EmailAutocomplete(input, DomainTrie.of("gmail.com", "gmx.com", "hotmail.com"), false).attach();
+    }
+
+    @Test
+    public void completesTheDomainAsItIsTyped() {
+        type("jane@g");
+
+        assertCompletion("jane@g", "mail.com");
+    }
+
+    @Test
+    public void keepsCompletingAsKeysReplaceTheCompletion() {
+        type("jane@g");
+        type("m");
+        assertCompletion("jane@gm", "ail.com");
+
+        type("x");
+        assertCompletion("jane@gmx", ".com");
+    }
+
+    @Test
+    public void deletingTheCompletionKeepsWhatWasTyped() {
+        type("jane@g");
+        type("");
+
+        assertCompletion("jane@g", "");
+    }
+
+    @Test
+    public void onlyCompletesAfterTheAt() {
+        type("gm");
+
+        assertCompletion("gm", "");
+    }
+
+    @Test
+    public void leavesUnknownDomainsAlone() {
+        type("jane@yah");
+
+        assertCompletion("jane@yah", "");
+    }
+
+    @Test
+    public void onlyCompletesAtTheEndOfTheText() {
+        type("@");
+        Selection.setSelection(input.getText(), 0);
+        type("g");
+
+        assertEquals("g@", input.getText().toString());
+    }
+
+    /** Types every character over the selection, or deletes the selection if there are none */
+    private void type(String characters) {
+        Editable text = input.getText();
+
+        if (characters.isEmpty()) {
+            text.delete(Selection.getSelectionStart(text), Selection.getSelectionEnd(text));
+            return;
+        }
+
+        for (int i = 0; i < characters.length(); i++)
+            text.replace(Selection.getSelectionStart(text), Selection.getSelectionEnd(text), characters.substring(i, i + 1));
+    }
+
+    private void assertCompletion(String typed, String completion) {
+        Editable text = input.getText();
+
+        assertEquals(typed + completion, text.toString());
+        assertEquals(typed.length(), Selection.getSelectionStart(text));
+        assertEquals(text.length(), Selection.getSelectionEnd(text));
+    }
+}
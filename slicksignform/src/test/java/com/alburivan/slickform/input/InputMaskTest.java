@@ -0,0 +1,89 @@
+package com.alburivan.slickform.input;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks how InputMask compiles a mask into its typed positions and its literals.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class InputMaskTest {
+
+    @Test
+    public void compilesSlotsAndLiterals() {
+        InputMask mask = InputMask.PHONE;
+
+        assertEquals(14, mask.length());
+        assertEquals(10, mask.getSlotCount());
+        assertFalse(mask.isSlot(0));
+        assertTrue(mask.isSlot(1));
+        assertEquals('(', mask.getLiteral(0));
+        assertEquals(")", mask.getLiteralText(4).toString());
+        assertNull(mask.getLiteralText(1));
+        assertEquals(1, mask.getSlotPosition(0));
+        assertEquals(6, mask.getSlotPosition(3));
+        assertEquals(13, mask.getSlotPosition(9));
+    }
+
+    @Test
+    public void acceptsTheKindOfEachSlot() {
+        InputMask mask = new InputMask("#A*");
+
+        assertTrue(mask.accepts(0, '7'));
+        assertFalse(mask.accepts(0, 'x'));
+        assertTrue(mask.accepts(1, 'x'));
+        assertTrue(mask.accepts(1, 'ñ'));
+        assertFalse(mask.accepts(1, '7'));
+        assertTrue(mask.accepts(2, 'x'));
+        assertTrue(mask.accepts(2, '7'));
+        assertFalse(mask.accepts(2, '-'));
+    }
+
+    @Test
+    public void escapedSlotCharactersAreLiterals() {
+        InputMask mask = new InputMask("\\#AA-**");
+
+        assertEquals(6, mask.length());
+        assertEquals(4, mask.getSlotCount());
+        assertFalse(mask.isSlot(0));
+        assertEquals('#', mask.getLiteral(0));
+        assertFalse(mask.accepts(0, '#'));
+        assertEquals("\\#AA-**", mask.toString());
+    }
+
+    @Test
+    public void countsTheSlotsOfAPartialText() {
+        InputMask mask = InputMask.PHONE;
+
+        assertEquals(0, mask.getSlotCount(0));
+        assertEquals(0, mask.getSlotCount(1));
+        assertEquals(4, mask.getSlotCount("(555) 1".length()));
+        assertEquals(10, mask.getSlotCount(14));
+        assertEquals(10, mask.getSlotCount(20));
+    }
+
+    @Test
+    public void buildsTheMaskOfADatePattern() {
+        assertEquals("##/##/####", InputMask.forDatePattern("dd/MM/yyyy").toString());
+        assertEquals("####-##-## ##:##", InputMask.forDatePattern("yyyy-MM-dd HH:mm").toString());
+
+        // letters that are slots in a mask stay literals of the date
+        InputMask mask = InputMask.forDatePattern("HH:mm A");
+
+        assertEquals(7, mask.length());
+        assertFalse(mask.isSlot(6));
+        assertEquals('A', mask.getLiteral(6));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMasksWithNothingToType() {
+        new InputMask("\\#-\\A");
+    }
+}
@@ -0,0 +1,160 @@
+package com.alburivan.slickform.input;
+
+import android.text.Editable;
+import android.text.Selection;
+import android.widget.EditText;
+
+import com.alburivan.slickform.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * (っ･_･)っ
+ *  Checks the text MaskFormatter keeps on a real EditText as characters are typed and deleted
+ *  at the cursor, the way a keyboard does.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class MaskFormatterTest {
+
+    private EditText input;
+
+
+    @Before
+    public void setUp() {
+        input = new EditText(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void formatsAsItIsTyped() {
+        attach(InputMask.PHONE);
+        type("5551234567");
+
+        assertText("(555) 123-4567");
+        assertEquals("5551234567", new UnmaskedText(input.getText(), InputMask.PHONE).toString());
+    }
+
+    @Test
+    public void addsLiteralsAsTheyAreReached() {
+        attach(InputMask.PHONE);
+
+        type("5");
+        assertText("(5");
+
+        type("55");
+        assertText("(555) ");
+    }
+
+    @Test
+    public void dropsCharactersThatDontFit() {
+        attach(InputMask.PHONE);
+        type("5a5-5");
+
+        assertText("(555) ");
+    }
+
+    @Test
+    public void dropsCharactersPastTheMask() {
+        attach(InputMask.CARD_EXPIRY);
+        type("12345");
+
+        assertText("12/34");
+    }
+
+    @Test
+    public void deletingTheLastCharacterDropsTheLiteralsBeforeIt() {
+        attach(InputMask.PHONE);
+        type("5551");
+
+        backspace();
+        assertText("(555");
+    }
+
+    @Test
+    public void deletingALiteralDeletesTheCharacterBeforeIt() {
+        attach(InputMask.PHONE);
+        type("555551");
+
+        backspace();
+        assertText("(555) 55");
+
+        type("5");
+        backspace();
+        backspace();
+        assertText("(555) 5");
+    }
+
+    @Test
+    public void formatsEditsInTheMiddle() {
+        attach(InputMask.PHONE);
+        type("55555");
+
+        Selection.setSelection(input.getText(), 2);
+        type("9");
+        assertText("(595) 555");
+
+        Selection.setSelection(input.getText(), 2);
+        type("x");
+        assertText("(595) 555");
+    }
+
+    @Test
+    public void formatsTheTextItIsAttachedTo() {
+        input.setText("01022020");
+        attach(InputMask.forDatePattern("dd/MM/yyyy"));
+
+        assertText("01/02/2020");
+    }
+
+    @Test
+    public void escapedLiteralsAreKept() {
+        attach(new InputMask("\\#AA-**"));
+        type("ab1c2");
+
+        assertText("#ab-1c");
+    }
+
+    @Test
+    public void stopsFormattingOnceDetached() {
+        MaskFormatter formatter = attach(InputMask.PHONE);
+        formatter.detach();
+        type("555");
+
+        assertText("555");
+    }
+
+    private MaskFormatter attach(InputMask mask) {
+        MaskFormatter formatter = new MaskFormatter(input, mask).attach();
+        Selection.setSelection(input.getText(), input.getText().length());
+        return formatter;
+    }
+
+    /** Types every character at the cursor, replacing the selection if there is one */
+    private void type(String characters) {
+        Editable text = input.getText();
+
+        for (int i = 0; i < characters.length(); i++)
+            text.replace(Selection.getSelectionStart(text), Selection.getSelectionEnd(text), characters.substring(i, i + 1));
+    }
+
+    private void backspace() {
+        Editable text = input.getText();
+        int cursor = Selection.getSelectionEnd(text);
+
+        text.delete(cursor - 1, cursor);
+    }
+
+    private void assertText(String expected) {
+        assertEquals(expected, input.getText().toString());
+    }
+}
@@ -0,0 +1,65 @@
+package com.alburivan.slickform.input;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * (っ･_･)っ
+ *  Checks that UnmaskedText reads the typed characters of a formatted text, and keeps reading
+ *  them as the text changes.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class UnmaskedTextTest {
+
+    @Test
+    public void readsTheTypedCharacters() {
+        UnmaskedText raw = new UnmaskedText("(555) 123-4567", InputMask.PHONE);
+
+        assertEquals(10, raw.length());
+        assertEquals('5', raw.charAt(0));
+        assertEquals('1', raw.charAt(3));
+        assertEquals("5551234567", raw.toString());
+    }
+
+    @Test
+    public void readsAPartialText() {
+        assertEquals("55512", new UnmaskedText("(555) 12", InputMask.PHONE).toString());
+        assertEquals(0, new UnmaskedText("", InputMask.PHONE).length());
+    }
+
+    @Test
+    public void followsTheTextAsItChanges() {
+        StringBuilder text = new StringBuilder("(555) 1");
+        UnmaskedText raw = new UnmaskedText(text, InputMask.PHONE);
+
+        text.append("23-4");
+
+        assertEquals(7, raw.length());
+        assertEquals("5551234", raw.toString());
+        assertEquals(text, raw.getText());
+    }
+
+    @Test
+    public void subSequencesAreViewsToo() {
+        UnmaskedText raw = new UnmaskedText("(555) 123-4567", InputMask.PHONE);
+        CharSequence exchange = raw.subSequence(3, 6);
+
+        assertEquals(3, exchange.length());
+        assertEquals('2', exchange.charAt(1));
+        assertEquals("123", exchange.toString());
+        assertEquals("23", exchange.subSequence(1, 3).toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsIndexesPastTheTypedCharacters() {
+        new UnmaskedText("(555) 12", InputMask.PHONE).charAt(5);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rejectsSubSequencesPastTheTypedCharacters() {
+        new UnmaskedText("(555) 12", InputMask.PHONE).subSequence(2, 6);
+    }
+}
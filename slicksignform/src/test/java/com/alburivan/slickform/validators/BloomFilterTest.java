@@ -0,0 +1,125 @@
+package com.alburivan.slickform.validators;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks that a filter written by BloomFilterBuilder reads back with every value it was given
+ *  and close to the false positive rate it was built for.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class BloomFilterTest {
+
+    private static final int ENTRIES = 10000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void containsEveryValueAdded() throws IOException {
+        BloomFilter filter = build(ENTRIES, BloomFilterBuilder.DEFAULT_FALSE_POSITIVE_RATE);
+
+        for (int i = 0; i < ENTRIES; i++)
+            assertTrue(filter.mightContain("password" + i));
+    }
+
+    @Test
+    public void staysCloseToItsFalsePositiveRate() throws IOException {
+        BloomFilter filter = build(ENTRIES, 0.01);
+        int falsePositives = 0;
+
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain("unlisted" + i))
+                falsePositives++;
+        }
+
+        // twice the rate leaves room for the spread of a sample this size
+        assertTrue("false positives: " + falsePositives, falsePositives < ENTRIES * 0.01 * 2);
+    }
+
+    @Test
+    public void readsAnyCharSequence() throws IOException {
+        BloomFilter filter = build(ENTRIES, BloomFilterBuilder.DEFAULT_FALSE_POSITIVE_RATE);
+
+        assertTrue(filter.mightContain(new StringBuilder("password42")));
+    }
+
+    @Test
+    public void keepsTheBuilderSize() throws IOException {
+        BloomFilterBuilder builder = new BloomFilterBuilder(ENTRIES, 0.01).add("password");
+        File file = folder.newFile();
+        builder.writeTo(file);
+
+        BloomFilter filter = BloomFilter.open(file);
+
+        assertEquals(builder.getBitCount(), filter.getBitCount());
+        assertEquals(builder.getHashCount(), filter.getHashCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        File file = folder.newFile();
+        write(file, new byte[64]);
+
+        BloomFilter.open(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedFiles() throws IOException {
+        File file = folder.newFile();
+        new BloomFilterBuilder(ENTRIES, 0.01).writeTo(file);
+
+        byte[] header = new byte[BloomFilter.HEADER_SIZE + 1];
+        FileInputStream input = new FileInputStream(file);
+
+        try {
+            assertEquals(header.length, input.read(header));
+        }
+        finally {
+            input.close();
+        }
+
+        write(file, header);
+        BloomFilter.open(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsImpossibleRates() {
+        new BloomFilterBuilder(ENTRIES, 1);
+    }
+
+    private BloomFilter build(int entries, double falsePositiveRate) throws IOException {
+        BloomFilterBuilder builder = new BloomFilterBuilder(entries, falsePositiveRate);
+
+        for (int i = 0; i < entries; i++)
+            builder.add("password" + i);
+
+        File file = folder.newFile();
+        builder.writeTo(file);
+        return BloomFilter.open(file);
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        FileOutputStream output = new FileOutputStream(file);
+
+        try {
+            output.write(bytes);
+        }
+        finally {
+            output.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.alburivan.slickform.validators;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Random;
+
+/**
+ * (っ･_･)っ
+ *  BloomFilterTool builds the filter files read by {@link BloomFilter} on a computer, it is not
+ *  part of the library:
+ *
+ *  <pre>
+ *      java -cp slickform-classes:slickform-test-classes \
+ *          com.alburivan.slickform.validators.BloomFilterTool \
+ *          passwords.txt breached.bloom [falsePositiveRate]
+ *  </pre>
+ *
+ *  The input has one value per line. Once written, the filter is opened back and the latency of
+ *  its lookups is measured and printed.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class BloomFilterTool {
+
+    private static final int BENCHMARK_LOOKUPS = 1000000;
+
+
+    private BloomFilterTool() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BloomFilterTool <input.txt> <output.bloom> [falsePositiveRate]");
+            System.exit(1);
+        }
+
+        File input = new File(args[0]);
+        File output = new File(args[1]);
+        double falsePositiveRate = args.length > 2 ? Double.parseDouble(args[2]) : BloomFilterBuilder.DEFAULT_FALSE_POSITIVE_RATE;
+
+        long lines = 0;
+        BufferedReader reader = openReader(input);
+
+        try {
+            while (reader.readLine() != null)
+                lines++;
+        }
+        finally {
+            reader.close();
+        }
+
+        BloomFilterBuilder builder = new BloomFilterBuilder(Math.max(1, lines), falsePositiveRate);
+        reader = openReader(input);
+
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty())
+                    builder.add(line);
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        builder.writeTo(output);
+
+        System.out.println("Entries:  " + builder.getEntryCount());
+        System.out.println("Bits:     " + builder.getBitCount() + " (" + (output.length() / 1024) + " KiB)");
+        System.out.println("Hashes:   " + builder.getHashCount());
+
+        benchmark(output);
+    }
+
+    /**
+     * Measures lookups of random values against the mapped filter, which also shows the false
+     * positive rate it actually reaches.
+     */
+    private static void benchmark(File file) throws IOException {
+        BloomFilter filter = BloomFilter.open(file);
+        StringBuilder value = new StringBuilder(16);
+        Random random = new Random(42);
+        int positives = 0;
+
+        // warm up
+        for (int i = 0; i < BENCHMARK_LOOKUPS / 10; i++)
+            filter.mightContain(randomValue(value, random));
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < BENCHMARK_LOOKUPS; i++) {
+            if (filter.mightContain(randomValue(value, random)))
+                positives++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("Lookup:   " + (elapsed / BENCHMARK_LOOKUPS) + " ns on average");
+        System.out.println("Measured false positive rate: " + ((double) positives / BENCHMARK_LOOKUPS));
+    }
+
+    private static CharSequence randomValue(StringBuilder value, Random random) {
+        value.setLength(0);
+
+        for (int i = 0; i < 12; i++)
+            value.append((char) ('!' + random.nextInt(94)));
+
+        return value;
+    }
+
+    private static BufferedReader openReader(File file) throws IOException {
+        return new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.alburivan.slickform.validators;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks DateTimeParser against a UTC Calendar, which has the same scale since the parser
+ *  applies no time zone.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class DateTimeParserTest {
+
+    @Test
+    public void parsesTheDefaultPattern() {
+        DateTimeParser parser = new DateTimeParser(DateTimeParser.DEFAULT_PATTERN);
+
+        assertEquals(utc(2016, 7, 14, 0, 0, 0), parser.parse("2016-07-14"));
+        assertEquals(0, parser.parse("1970-01-01"));
+    }
+
+    @Test
+    public void parsesDatesAndTimes() {
+        DateTimeParser parser = new DateTimeParser("dd/MM/yyyy HH:mm:ss");
+
+        assertEquals(utc(1999, 12, 31, 23, 59, 58), parser.parse("31/12/1999 23:59:58"));
+    }
+
+    @Test
+    public void singleLettersTakeOneOrTwoDigits() {
+        DateTimeParser parser = new DateTimeParser("d/M/yy");
+
+        assertEquals(utc(2016, 3, 5, 0, 0, 0), parser.parse("5/3/16"));
+        assertEquals(utc(2016, 11, 25, 0, 0, 0), parser.parse("25/11/16"));
+        assertEquals(DateTimeParser.INVALID, parser.parse("5/3/2016"));
+    }
+
+    @Test
+    public void matchesTheDaysOfEachMonth() {
+        DateTimeParser parser = new DateTimeParser(DateTimeParser.DEFAULT_PATTERN);
+
+        assertTrue(parser.isValid("2016-02-29"));
+        assertTrue(parser.isValid("2000-02-29"));
+        assertFalse(parser.isValid("1900-02-29"));
+        assertFalse(parser.isValid("2015-02-29"));
+        assertFalse(parser.isValid("2016-04-31"));
+        assertFalse(parser.isValid("2016-13-01"));
+        assertFalse(parser.isValid("2016-00-10"));
+    }
+
+    @Test
+    public void rejectsTextThatDoesNotFollowThePattern() {
+        DateTimeParser parser = new DateTimeParser("yyyy-MM-dd HH:mm");
+        String[] texts = { "", "2016-07-14", "2016/07/14 10:00", "2016-07-14 24:00", "2016-07-14 10:60",
+                "2016-7-14 10:00", "2016-07-14 10:00x" };
+
+        for (String text : texts)
+            assertEquals(text, DateTimeParser.INVALID, parser.parse(text));
+    }
+
+    @Test
+    public void ignoresSurroundingWhitespace() {
+        DateTimeParser parser = new DateTimeParser(DateTimeParser.DEFAULT_PATTERN);
+
+        assertEquals(utc(2016, 7, 14, 0, 0, 0), parser.parse(" 2016-07-14 "));
+    }
+
+    @Test
+    public void convertsDatesBeforeTheEpoch() {
+        assertEquals(utc(1969, 12, 31, 12, 0, 0), DateTimeParser.toMillis(1969, 12, 31, 12, 0, 0));
+        assertEquals(utc(1600, 3, 1, 0, 0, 0), DateTimeParser.toMillis(1600, 3, 1, 0, 0, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnEmptyPattern() {
+        new DateTimeParser("");
+    }
+
+    private static long utc(int year, int month, int day, int hour, int minute, int second) {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(year, month - 1, day, hour, minute, second);
+        return calendar.getTimeInMillis();
+    }
+}
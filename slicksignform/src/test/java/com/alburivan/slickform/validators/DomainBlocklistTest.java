@@ -0,0 +1,150 @@
+package com.alburivan.slickform.validators;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks that a blocklist written by DomainBlocklistBuilder blocks its domains and their
+ *  subdomains once mapped back, and nothing else.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class DomainBlocklistTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    @Test
+    public void blocksDomainsAndTheirSubdomains() throws IOException {
+        DomainBlocklist blocklist = build("mailinator.com", "tempmail.net");
+
+        assertTrue(blocklist.isBlockedEmail("jane@mailinator.com"));
+        assertTrue(blocklist.isBlockedEmail("jane@eu.mailinator.com"));
+        assertTrue(blocklist.isBlockedEmail("jane@tempmail.net"));
+    }
+
+    @Test
+    public void onlyBlocksWholeLabels() throws IOException {
+        DomainBlocklist blocklist = build("mailinator.com");
+
+        assertFalse(blocklist.isBlockedEmail("jane@notmailinator.com"));
+        assertFalse(blocklist.isBlockedEmail("jane@mailinator.co"));
+        assertFalse(blocklist.isBlockedEmail("jane@com"));
+        assertFalse(blocklist.isBlockedEmail("jane@gmail.com"));
+    }
+
+    @Test
+    public void ignoresCaseAndTrailingDots() throws IOException {
+        DomainBlocklist blocklist = build("mailinator.com");
+
+        assertTrue(blocklist.isBlockedEmail("Jane@MailInator.COM"));
+        assertTrue(blocklist.isBlockedEmail("jane@mailinator.com. "));
+    }
+
+    @Test
+    public void readsTheDomainAfterTheLastAt() throws IOException {
+        DomainBlocklist blocklist = build("mailinator.com");
+
+        assertTrue(blocklist.isBlockedEmail("\"jane@gmail.com\"@mailinator.com"));
+        assertFalse(blocklist.isBlockedEmail("jane.mailinator.com"));
+        assertFalse(blocklist.isBlockedEmail("jane@mailinätor.com"));
+    }
+
+    @Test
+    public void looksUpASliceOfTheText() throws IOException {
+        DomainBlocklist blocklist = build("mailinator.com");
+        String text = "to mailinator.com now";
+
+        assertTrue(blocklist.isBlocked(text, 3, 17));
+        assertFalse(blocklist.isBlocked(text, 4, 17));
+    }
+
+    @Test
+    public void normalizesTheDomainsAdded() throws IOException {
+        DomainBlocklistBuilder builder = new DomainBlocklistBuilder()
+                .add("*.tempmail.net")
+                .add(" .Guerrilla.ORG. ")
+                .add("tempmail.net")
+                .add("");
+
+        assertEquals(2, builder.getDomainCount());
+
+        DomainBlocklist blocklist = write(builder);
+
+        assertEquals(2, blocklist.getDomainCount());
+        assertTrue(blocklist.isBlockedEmail("jane@tempmail.net"));
+        assertTrue(blocklist.isBlockedEmail("jane@guerrilla.org"));
+    }
+
+    @Test
+    public void sharesSuffixesAcrossManyDomains() throws IOException {
+        DomainBlocklistBuilder builder = new DomainBlocklistBuilder();
+
+        for (int i = 0; i < 1000; i++)
+            builder.add("disposable" + i + ".com");
+
+        DomainBlocklist blocklist = write(builder);
+
+        for (int i = 0; i < 1000; i++)
+            assertTrue(blocklist.isBlockedEmail("jane@disposable" + i + ".com"));
+
+        assertFalse(blocklist.isBlockedEmail("jane@disposable1000.com"));
+        assertFalse(blocklist.isBlockedEmail("jane@disposable.com"));
+    }
+
+    @Test
+    public void emptyBlocklistBlocksNothing() throws IOException {
+        DomainBlocklist blocklist = write(new DomainBlocklistBuilder());
+
+        assertEquals(0, blocklist.getDomainCount());
+        assertFalse(blocklist.isBlockedEmail("jane@mailinator.com"));
+        assertFalse(blocklist.isBlockedEmail("jane@"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDomainsThatAreNotAscii() {
+        new DomainBlocklistBuilder().add("mailinätor.com");
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws IOException {
+        File file = folder.newFile();
+        FileOutputStream output = new FileOutputStream(file);
+
+        try {
+            output.write(new byte[64]);
+        }
+        finally {
+            output.close();
+        }
+
+        DomainBlocklist.open(file);
+    }
+
+    private DomainBlocklist build(String... domains) throws IOException {
+        DomainBlocklistBuilder builder = new DomainBlocklistBuilder();
+
+        for (String domain : domains)
+            builder.add(domain);
+
+        return write(builder);
+    }
+
+    private DomainBlocklist write(DomainBlocklistBuilder builder) throws IOException {
+        File file = folder.newFile();
+        builder.writeTo(file);
+        return DomainBlocklist.open(file);
+    }
+}
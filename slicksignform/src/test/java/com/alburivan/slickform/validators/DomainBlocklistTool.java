@@ -0,0 +1,56 @@
+package com.alburivan.slickform.validators;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * (っ･_･)っ
+ *  DomainBlocklistTool builds the files read by {@link DomainBlocklist} on a computer, it is not
+ *  part of the library:
+ *
+ *  <pre>
+ *      java -cp slickform-classes:slickform-test-classes \
+ *          com.alburivan.slickform.validators.DomainBlocklistTool \
+ *          disposable_domains.txt disposable.trie
+ *  </pre>
+ *
+ *  The input has one domain per line, lines starting with '#' are ignored.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public final class DomainBlocklistTool {
+
+    private DomainBlocklistTool() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: DomainBlocklistTool <domains.txt> <output.trie>");
+            System.exit(1);
+        }
+
+        DomainBlocklistBuilder builder = new DomainBlocklistBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(args[0]), "UTF-8"));
+
+        try {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty() && !line.startsWith("#"))
+                    builder.add(line);
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        File output = new File(args[1]);
+        builder.writeTo(output);
+
+        System.out.println("Domains:  " + builder.getDomainCount());
+        System.out.println("Size:     " + (output.length() / 1024) + " KiB");
+    }
+}
@@ -0,0 +1,70 @@
+package com.alburivan.slickform.validators;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks NumberParser against the JDK's own parsing, on the inputs a form field gets.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class NumberParserTest {
+
+    @Test
+    public void parsesDoublesLikeTheJdk() {
+        String[] numbers = { "0", "42", "-7", "+7", "3.14159", "-0.5", ".5", "5.", "0.1", "123456789.125" };
+
+        for (String number : numbers)
+            assertEquals(number, Double.parseDouble(number), NumberParser.parseDouble(number), 0);
+    }
+
+    @Test
+    public void ignoresSurroundingWhitespace() {
+        assertEquals(12.5, NumberParser.parseDouble("  12.5\t"), 0);
+        assertEquals(12, NumberParser.parseLong(" 12 ", -1));
+    }
+
+    @Test
+    public void keepsTheMagnitudeOfDigitsBeyondALong() {
+        assertEquals(1e25, NumberParser.parseDouble("10000000000000000000000000"), 1e10);
+        assertEquals(0.1, NumberParser.parseDouble("0.10000000000000000000000001"), 1e-15);
+    }
+
+    @Test
+    public void rejectsWhatIsNotANumber() {
+        String[] texts = { "", "   ", "-", ".", "1.2.3", "1,5", "12a", "1e5", "--1" };
+
+        for (String text : texts) {
+            assertTrue(text, Double.isNaN(NumberParser.parseDouble(text)));
+            assertFalse(text, NumberParser.isNumber(text));
+        }
+    }
+
+    @Test
+    public void parsesLongsToTheEdgeOfTheirRange() {
+        assertEquals(Long.MAX_VALUE, NumberParser.parseLong("9223372036854775807", -1));
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong("-9223372036854775808", -1));
+        assertEquals(-1, NumberParser.parseLong("9223372036854775808", -1));
+        assertEquals(-1, NumberParser.parseLong("-9223372036854775809", -1));
+    }
+
+    @Test
+    public void returnsTheDefaultForWhatIsNotALong() {
+        String[] texts = { "", "-", "+", "1.5", "12a" };
+
+        for (String text : texts)
+            assertEquals(text, -1, NumberParser.parseLong(text, -1));
+    }
+
+    @Test
+    public void readsAnyCharSequence() {
+        StringBuilder text = new StringBuilder("-250.75");
+
+        assertEquals(-250.75, NumberParser.parseDouble(text), 0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.alburivan.slickform.validators;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks the scores PasswordStrengthEstimator gives to well known kinds of passwords, and that
+ *  estimating as the user types gives the same result as estimating the whole text at once.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class PasswordStrengthEstimatorTest {
+
+    @Test
+    public void commonPasswordsAreTooGuessable() {
+        String[] passwords = { "", "password", "Password", "123456", "qwerty", "abcdefg", "aaaaaaaa", "asdfgh" };
+
+        for (String password : passwords)
+            assertEquals(password, PasswordStrengthEstimator.SCORE_TOO_GUESSABLE, new PasswordStrengthEstimator().estimate(password));
+    }
+
+    @Test
+    public void mixedPasswordsAreUnguessable() {
+        String[] passwords = { "correct-Horse7-battery!Staple", "T5#kq9!Lz@2w", "mY.p1an3t+is#B1ue" };
+
+        for (String password : passwords)
+            assertEquals(password, PasswordStrengthEstimator.SCORE_VERY_UNGUESSABLE, new PasswordStrengthEstimator().estimate(password));
+    }
+
+    @Test
+    public void wordsWithSuffixesCostLittleMore() {
+        PasswordStrengthEstimator estimator = new PasswordStrengthEstimator();
+        double word = estimator.estimateBits("sunshine");
+        double suffixed = estimator.estimateBits("sunshine1");
+
+        assertTrue(suffixed - word < 5);
+    }
+
+    @Test
+    public void customDictionaryIsUsed() {
+        PasswordStrengthEstimator.Dictionary dictionary = PasswordStrengthEstimator.Dictionary.of("slickform");
+
+        double withWord = new PasswordStrengthEstimator(dictionary).estimateBits("SlickForm");
+        double withoutWord = new PasswordStrengthEstimator().estimateBits("SlickForm");
+
+        assertTrue(withWord < withoutWord);
+        assertEquals(PasswordStrengthEstimator.SCORE_TOO_GUESSABLE, PasswordStrengthEstimator.toScore(withWord));
+    }
+
+    @Test
+    public void typingMatchesAFreshEstimate() {
+        String[] passwords = { "correct-Horse7-battery!Staple", "password123", "qwertyuiop", "zyxw4321aaaa" };
+
+        for (String password : passwords) {
+            PasswordStrengthEstimator estimator = new PasswordStrengthEstimator();
+
+            for (int i = 1; i <= password.length(); i++)
+                estimator.estimateBits(password.substring(0, i));
+
+            assertEquals(password, new PasswordStrengthEstimator().estimateBits(password), estimator.estimateBits(password), 1e-9);
+        }
+    }
+
+    @Test
+    public void editsInTheMiddleMatchAFreshEstimate() {
+        PasswordStrengthEstimator estimator = new PasswordStrengthEstimator();
+
+        estimator.estimateBits("monkey-Business-42");
+        double edited = estimator.estimateBits("monkey#Business");
+
+        assertEquals(new PasswordStrengthEstimator().estimateBits("monkey#Business"), edited, 1e-9);
+        assertEquals(0, estimator.estimateBits(""), 0);
+    }
+
+    @Test
+    public void estimatesLongInputs() {
+        StringBuilder password = new StringBuilder();
+
+        for (int i = 0; i < PasswordStrengthEstimator.LONG_INPUT_LENGTH * 2; i++)
+            password.append((char) ('!' + (i * 37) % 90));
+
+        PasswordStrengthEstimator estimator = new PasswordStrengthEstimator();
+
+        assertEquals(PasswordStrengthEstimator.SCORE_VERY_UNGUESSABLE, estimator.estimate(password));
+        assertEquals(new PasswordStrengthEstimator().estimateBits(password), estimator.estimateBits(password), 1e-9);
+    }
+
+    @Test
+    public void scoresFollowTheOrdersOfMagnitudeOfGuesses() {
+        assertEquals(PasswordStrengthEstimator.SCORE_TOO_GUESSABLE, PasswordStrengthEstimator.toScore(9));
+        assertEquals(PasswordStrengthEstimator.SCORE_VERY_GUESSABLE, PasswordStrengthEstimator.toScore(10));
+        assertEquals(PasswordStrengthEstimator.SCORE_SOMEWHAT_GUESSABLE, PasswordStrengthEstimator.toScore(20));
+        assertEquals(PasswordStrengthEstimator.SCORE_SAFELY_UNGUESSABLE, PasswordStrengthEstimator.toScore(27));
+        assertEquals(PasswordStrengthEstimator.SCORE_VERY_UNGUESSABLE, PasswordStrengthEstimator.toScore(34));
+    }
+}
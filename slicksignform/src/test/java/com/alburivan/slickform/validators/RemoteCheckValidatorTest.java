@@ -0,0 +1,237 @@
+package com.alburivan.slickform.validators;
+
+import android.widget.EditText;
+
+import com.alburivan.slickform.BuildConfig;
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.IRemoteCheckTransport;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks RemoteCheckValidator against a stub transport. The checks are queued instead of run,
+ *  so each test decides when the answers arrive, and the main looper's clock drives the
+ *  debounce and the cache's expiry.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class RemoteCheckValidatorTest {
+
+    private QueueExecutor executor;
+    private StubTransport transport;
+    private RemoteCheckValidator validator;
+
+
+    @Before
+    public void setUp() {
+        executor = new QueueExecutor();
+        transport = new StubTransport();
+        validator = new RemoteCheckValidator(transport, executor, 2);
+    }
+
+    @Test
+    public void identicalChecksInFlightAreCoalesced() {
+        validator.prefetch("alice");
+        validator.prefetch(" alice ");
+        executor.runAll();
+
+        assertEquals(1, validator.getRequestCount());
+        assertEquals(1, validator.getCoalescedCount());
+        assertEquals(Collections.singletonList("alice"), transport.checkedValues);
+    }
+
+    @Test
+    public void answersAreCachedUntilTheyExpire() {
+        validator.withCacheTtl(1000);
+
+        validator.prefetch("alice");
+        executor.runAll();
+        validator.prefetch("alice");
+
+        assertEquals(1, validator.getRequestCount());
+        assertEquals(1, validator.getCacheHitCount());
+
+        ShadowLooper.idleMainLooper(1001);
+        validator.prefetch("alice");
+        executor.runAll();
+
+        assertEquals(2, validator.getRequestCount());
+        assertEquals(Arrays.asList("alice", "alice"), transport.checkedValues);
+    }
+
+    @Test
+    public void leastRecentlyUsedAnswerIsEvicted() {
+        validator.prefetch("alice");
+        executor.runAll();
+        validator.prefetch("bob");
+        executor.runAll();
+
+        // alice is used again, so bob is the one evicted by carol
+        validator.prefetch("alice");
+        validator.prefetch("carol");
+        executor.runAll();
+
+        validator.prefetch("alice");
+        validator.prefetch("bob");
+        executor.runAll();
+
+        assertEquals(2, validator.getCacheHitCount());
+        assertEquals(Arrays.asList("alice", "bob", "carol", "bob"), transport.checkedValues);
+    }
+
+    @Test
+    public void failedChecksAreNotCached() {
+        transport.isFailing = true;
+        validator.prefetch("alice");
+        executor.runAll();
+
+        transport.isFailing = false;
+        validator.prefetch("alice");
+        executor.runAll();
+
+        assertEquals(2, validator.getRequestCount());
+        assertEquals(0, validator.getCacheHitCount());
+    }
+
+    @Test
+    public void staleChecksAreCancelled() {
+        validator.prefetch("ali");
+        validator.prefetch("alice");
+        executor.runAll();
+
+        assertEquals(1, validator.getCancelledCount());
+        assertEquals(Collections.singletonList("alice"), transport.checkedValues);
+
+        // the cancelled value has no answer, so it is checked again when it comes back
+        validator.prefetch("ali");
+        executor.runAll();
+
+        assertEquals(3, validator.getRequestCount());
+        assertEquals(Arrays.asList("alice", "ali"), transport.checkedValues);
+    }
+
+    @Test
+    public void keystrokesAreDebounced() {
+        FormField field = new FormField(RuntimeEnvironment.application);
+        EditText input = field.getInputField();
+
+        validator.attachTo(field);
+        input.setText("a");
+        input.append("l");
+        input.append("ice");
+
+        ShadowLooper.idleMainLooper(RemoteCheckValidator.DEFAULT_DEBOUNCE_MILLIS - 1);
+        assertEquals(0, validator.getRequestCount());
+
+        ShadowLooper.idleMainLooper(1);
+        executor.runAll();
+
+        assertEquals(1, validator.getRequestCount());
+        assertEquals(Collections.singletonList("alice"), transport.checkedValues);
+    }
+
+    @Test
+    public void pendingValueIsRejectedUntilAnswered() {
+        FormField field = new FormField(RuntimeEnvironment.application);
+        field.getInputField().setText("alice");
+
+        final List<String> answered = new ArrayList<>();
+        Runnable callback = new Runnable() {
+            @Override
+            public void run() {
+                answered.add("alice");
+            }
+        };
+
+        assertFalse(validator.validate(field));
+        assertTrue(validator.whenAnswered(field, callback));
+
+        executor.runAll();
+        ShadowLooper.idleMainLooper();
+
+        assertEquals(Collections.singletonList("alice"), answered);
+        assertTrue(validator.validate(field));
+        assertFalse(validator.whenAnswered(field, callback));
+        assertEquals(1, validator.getRequestCount());
+    }
+
+    @Test
+    public void takenValueIsRejected() {
+        FormField field = new FormField(RuntimeEnvironment.application);
+        field.getInputField().setText("alice");
+        transport.takenValues.add("alice");
+
+        validator.prefetch("alice");
+        executor.runAll();
+
+        assertFalse(validator.validate(field));
+        assertEquals(1, validator.getCacheHitCount());
+    }
+
+    @Test
+    public void pendingValueIsAcceptedWhenAllowed() {
+        FormField field = new FormField(RuntimeEnvironment.application);
+        field.getInputField().setText("alice");
+        transport.takenValues.add("alice");
+
+        assertTrue(validator.withAcceptWhilePending(true).validate(field));
+    }
+
+    private static final class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+
+            while ((task = tasks.poll()) != null)
+                task.run();
+        }
+    }
+
+    private static final class StubTransport implements IRemoteCheckTransport {
+
+        final List<String> checkedValues = new ArrayList<>();
+        final Set<String> takenValues = new HashSet<>();
+        boolean isFailing = false;
+
+        @Override
+        public boolean check(String value) throws Exception {
+            checkedValues.add(value);
+
+            if (isFailing)
+                throw new Exception("No connection");
+
+            return !takenValues.contains(value);
+        }
+    }
+}
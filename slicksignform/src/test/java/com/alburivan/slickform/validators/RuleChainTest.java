@@ -0,0 +1,125 @@
+package com.alburivan.slickform.validators;
+
+import com.alburivan.slickform.FormField;
+import com.alburivan.slickform.interfaces.IValidationRule;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * (っ･_･)っ
+ *  Checks the order RuleChain runs its rules in, as added and once it has seen which of them
+ *  fail. The rules never read the field, so none is needed.
+ *
+ *  @author Iván Alburquerque
+ *  @version 1.0.0
+ */
+public class RuleChainTest {
+
+    private final List<String> runs = new ArrayList<>();
+
+
+    @Test
+    public void runsTheCheapestRulesFirst() {
+        RuleChain chain = new RuleChain()
+                .add(new StubRule("remote", Rules.COST_REMOTE, true))
+                .add(new StubRule("regex", Rules.COST_REGEX, true))
+                .add(new StubRule("length", Rules.COST_CHEAP, true));
+
+        assertTrue(chain.validate(null));
+        assertEquals(Arrays.asList("length", "regex", "remote"), runs);
+        assertEquals(3, chain.size());
+    }
+
+    @Test
+    public void stopsAtTheFirstFailingRule() {
+        StubRule failing = new StubRule("regex", Rules.COST_REGEX, false);
+        RuleChain chain = new RuleChain()
+                .add(new StubRule("length", Rules.COST_CHEAP, true))
+                .add(failing)
+                .add(new StubRule("remote", Rules.COST_REMOTE, true));
+
+        assertSame(failing, chain.findFailingRule(null));
+        assertFalse(chain.validate(null));
+        assertEquals(Arrays.asList("length", "regex", "length", "regex"), runs);
+    }
+
+    @Test
+    public void passingChainHasNoFailingRule() {
+        RuleChain chain = new RuleChain().add(new StubRule("length", Rules.COST_CHEAP, true));
+
+        assertNull(chain.findFailingRule(null));
+        assertNull(new RuleChain().findFailingRule(null));
+    }
+
+    @Test
+    public void rulesThatFailOftenMoveAheadWithinTheirCost() {
+        RuleChain chain = new RuleChain()
+                .add(new StubRule("length", 2, true))
+                .add(new StubRule("digits", 3, false));
+
+        assertEquals("length", chain.getRules().get(0).toString());
+
+        for (int i = 0; i < 64; i++)
+            chain.validate(null);
+
+        assertEquals("digits", chain.getRules().get(0).toString());
+    }
+
+    @Test
+    public void cheapRulesThatNeverFailStayAheadOfExpensiveOnes() {
+        RuleChain chain = new RuleChain()
+                .add(new StubRule("length", Rules.COST_CHEAP, true))
+                .add(new StubRule("regex", Rules.COST_REGEX, true))
+                .add(new StubRule("lookup", Rules.COST_LOOKUP, false))
+                .add(new StubRule("remote", Rules.COST_REMOTE, false));
+
+        for (int i = 0; i < 1000; i++)
+            chain.validate(null);
+
+        List<String> order = new ArrayList<>();
+
+        for (IValidationRule rule : chain.getRules())
+            order.add(rule.toString());
+
+        assertEquals(Arrays.asList("lookup", "length", "regex", "remote"), order);
+    }
+
+    private final class StubRule implements IValidationRule {
+
+        private final String name;
+        private final int cost;
+        private final boolean isPassing;
+
+        StubRule(String name, int cost, boolean isPassing) {
+            this.name = name;
+            this.cost = cost;
+            this.isPassing = isPassing;
+        }
+
+        @Override
+        public boolean validate(FormField field) {
+            runs.add(name);
+            return isPassing;
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}